@@ -0,0 +1,55 @@
+package io.leantony.validator.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.leantony.validator.CompiledSchema;
+import io.leantony.validator.ValidationHelper;
+import io.leantony.validator.ValidationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validating a batch of records sequentially versus through {@code ValidationHelper.validateAll}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    private ValidationHelper helper;
+    private CompiledSchema schema;
+    private List<Map<String, Object>> records;
+
+    @Setup
+    public void setUp() {
+        helper = new ValidationHelper(new ObjectMapper());
+        schema = helper.compile(BenchmarkData.flatRules());
+        records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(BenchmarkData.flatPayload());
+        }
+    }
+
+    @Benchmark
+    public List<ValidationResult> sequential() {
+        List<ValidationResult> results = new ArrayList<>(records.size());
+        for (Map<String, Object> record : records) {
+            results.add(schema.validate(record));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public List<ValidationResult> parallel() {
+        return helper.validateAll(records, schema, null);
+    }
+}
@@ -0,0 +1,119 @@
+package io.leantony.validator.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rule maps and payloads shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static Map<String, String> flatRules() {
+        Map<String, String> rules = new LinkedHashMap<>();
+        rules.put("name", "required|alpha");
+        rules.put("email", "required|email");
+        rules.put("age", "required|numeric|min:18|max:65");
+        rules.put("password", "required|length:8,32");
+        rules.put("confirmPassword", "required|sameOrEqual:password");
+        rules.put("startDate", "required|date");
+        rules.put("endDate", "required|date|afterOrEqual:startDate");
+        rules.put("countryCode", "required|country");
+        rules.put("currency", "required|currency");
+        rules.put("website", "optional|url");
+        rules.put("status", "required|in:active,inactive,suspended");
+        rules.put("role", "required|notIn:guest,banned");
+        rules.put("isActive", "boolean");
+        rules.put("reference", "required|alphanumeric|regex:^[A-Z0-9]{6,12}$");
+        return rules;
+    }
+
+    static Map<String, Object> flatPayload() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "JohnDoe");
+        data.put("email", "johndoe@example.com");
+        data.put("age", 30);
+        data.put("password", "StrongPass8");
+        data.put("confirmPassword", "StrongPass8");
+        data.put("startDate", "2024-01-01");
+        data.put("endDate", "2024-12-31");
+        data.put("countryCode", "KE");
+        data.put("currency", "KES");
+        data.put("website", "https://example.com");
+        data.put("status", "active");
+        data.put("role", "admin");
+        data.put("isActive", true);
+        data.put("reference", "ABC123XYZ");
+        return data;
+    }
+
+    static Map<String, String> nestedRules() {
+        Map<String, String> rules = new LinkedHashMap<>();
+        rules.put("customer.name", "required|alpha");
+        rules.put("customer.email", "required|email");
+        rules.put("customer.address.city", "required|alpha");
+        rules.put("customer.address.postalCode", "required|numeric");
+        rules.put("settings.preferences.theme", "required|in:light,dark");
+        rules.put("addresses[0].street", "required");
+        rules.put("addresses[*].postalCode", "required|numeric");
+        return rules;
+    }
+
+    static Map<String, Object> nestedPayload() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("customer", Map.of(
+                "name", "Jane",
+                "email", "jane@example.com",
+                "address", Map.of("city", "Nairobi", "postalCode", "00100")));
+        data.put("settings", Map.of("preferences", Map.of("theme", "dark")));
+        List<Map<String, Object>> addresses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            addresses.add(Map.of("street", "Street " + i, "postalCode", "0010" + i));
+        }
+        data.put("addresses", addresses);
+        return data;
+    }
+
+    static Map<String, Object> itemsPayload(int size) {
+        List<Map<String, Object>> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(Map.of("sku", "SKU" + i, "quantity", i % 50 + 1));
+        }
+        Map<String, Object> data = new HashMap<>();
+        data.put("items", items);
+        return data;
+    }
+
+    /**
+     * A DTO with a few validated fields among many that no rule references.
+     */
+    public static class OrderDto {
+        public String reference = "ABC123XYZ";
+        public String email = "buyer@example.com";
+        public Integer amount = 1500;
+        public String currency = "KES";
+        public String notes = "Leave at the front desk";
+        public String channel = "web";
+        public List<String> tags = List.of("priority", "gift", "fragile");
+        public Map<String, Object> metadata = Map.of("campaign", "summer", "source", "newsletter", "version", 3);
+        public List<Line> lines = List.of(new Line("A1", 2), new Line("B2", 1), new Line("C3", 5));
+    }
+
+    /**
+     * A nested DTO element.
+     */
+    public static class Line {
+        public String sku;
+        public int quantity;
+
+        Line(String sku, int quantity) {
+            this.sku = sku;
+            this.quantity = quantity;
+        }
+    }
+}
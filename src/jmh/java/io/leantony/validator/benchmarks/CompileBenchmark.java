@@ -0,0 +1,40 @@
+package io.leantony.validator.benchmarks;
+
+import io.leantony.validator.CompiledSchema;
+import io.leantony.validator.Validator;
+import io.leantony.validator.ValidatorBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a rule map into rules: the DSL parsing done by {@code ValidatorBuilder}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompileBenchmark {
+
+    private Map<String, String> rules;
+    private Map<String, Object> data;
+
+    @Setup
+    public void setUp() {
+        rules = BenchmarkData.flatRules();
+        data = BenchmarkData.flatPayload();
+    }
+
+    @Benchmark
+    public Validator make() {
+        return ValidatorBuilder.make(data, rules);
+    }
+
+    @Benchmark
+    public CompiledSchema compile() {
+        return ValidatorBuilder.compile(rules);
+    }
+}
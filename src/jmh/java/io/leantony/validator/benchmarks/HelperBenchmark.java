@@ -0,0 +1,45 @@
+package io.leantony.validator.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.leantony.validator.DataAccessMode;
+import io.leantony.validator.ValidationHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The DTO path of {@code ValidationHelper}, including turning the DTO into the data map.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HelperBenchmark {
+
+    @Param({"CONVERT_VALUE", "PROPERTY_ACCESSORS"})
+    private DataAccessMode mode;
+
+    private ValidationHelper helper;
+    private Map<String, String> rules;
+    private BenchmarkData.OrderDto dto;
+
+    @Setup
+    public void setUp() {
+        helper = new ValidationHelper(new ObjectMapper(), 16, mode);
+        rules = Map.of(
+                "reference", "required|alphanumeric",
+                "email", "required|email",
+                "amount", "required|numeric|min:1",
+                "lines[*].sku", "required");
+        dto = new BenchmarkData.OrderDto();
+    }
+
+    @Benchmark
+    public List<String> validateDto() {
+        return helper.validate(dto, rules);
+    }
+}
@@ -0,0 +1,115 @@
+package io.leantony.validator.benchmarks;
+
+import io.leantony.validator.rules.AfterOrEqualRule;
+import io.leantony.validator.rules.AlphaDashRule;
+import io.leantony.validator.rules.AlphaRule;
+import io.leantony.validator.rules.DateRule;
+import io.leantony.validator.rules.MaxRule;
+import io.leantony.validator.rules.MinRule;
+import io.leantony.validator.rules.PhoneNoRule;
+import io.leantony.validator.rules.RegexRule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Individual rules that are expensive relative to the rest.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RuleBenchmark {
+
+    private PhoneNoRule phoneDefaultRegion;
+    private PhoneNoRule phoneCountryField;
+    private RegexRule regex;
+    private DateRule date;
+    private AfterOrEqualRule afterOrEqualDates;
+    private AfterOrEqualRule afterOrEqualNumbers;
+    private AlphaRule alpha;
+    private AlphaRule alphaUnicode;
+    private AlphaDashRule alphaDash;
+    private MinRule minAmount;
+    private MaxRule maxAmount;
+    private Map<String, Object> data;
+
+    @Setup
+    public void setUp() {
+        phoneDefaultRegion = new PhoneNoRule(null);
+        phoneCountryField = new PhoneNoRule("country");
+        regex = new RegexRule("^[A-Z0-9]{6,12}$");
+        date = new DateRule();
+        afterOrEqualDates = new AfterOrEqualRule("startDate");
+        afterOrEqualNumbers = new AfterOrEqualRule("minAmount");
+        alpha = new AlphaRule();
+        alphaUnicode = new AlphaRule("unicode");
+        alphaDash = new AlphaDashRule();
+        minAmount = new MinRule(10);
+        maxAmount = new MaxRule(150000.5);
+        data = Map.of("country", "KEN", "startDate", "2024-01-01", "minAmount", 100);
+    }
+
+    @Benchmark
+    public boolean phoneDefaultRegion() {
+        return phoneDefaultRegion.validate("phone", "+254712345678", data);
+    }
+
+    @Benchmark
+    public boolean phoneCountryField() {
+        return phoneCountryField.validate("phone", "0712345678", data);
+    }
+
+    @Benchmark
+    public boolean regexMatch() {
+        return regex.validate("reference", "ABC123XYZ", data);
+    }
+
+    @Benchmark
+    public boolean dateValid() {
+        return date.validate("date", "2024-02-29", data);
+    }
+
+    @Benchmark
+    public boolean dateInvalid() {
+        return date.validate("date", "2024-02-30x", data);
+    }
+
+    @Benchmark
+    public boolean afterOrEqualDates() {
+        return afterOrEqualDates.validate("endDate", "2024-12-31", data);
+    }
+
+    @Benchmark
+    public boolean afterOrEqualNumbers() {
+        return afterOrEqualNumbers.validate("amount", 1500, data);
+    }
+
+    @Benchmark
+    public boolean alpha() {
+        return alpha.validate("name", "Wanjiru", data);
+    }
+
+    @Benchmark
+    public boolean alphaUnicode() {
+        return alphaUnicode.validate("name", "Zoë", data);
+    }
+
+    @Benchmark
+    public boolean alphaDash() {
+        return alphaDash.validate("slug", "order-2024_ke", data);
+    }
+
+    @Benchmark
+    public boolean minInteger() {
+        return minAmount.validate("amount", 1500, data);
+    }
+
+    @Benchmark
+    public boolean maxDouble() {
+        return maxAmount.validate("amount", 1499.99, data);
+    }
+}
@@ -0,0 +1,51 @@
+package io.leantony.validator.benchmarks;
+
+import io.leantony.validator.CompiledSchema;
+import io.leantony.validator.ValidationResult;
+import io.leantony.validator.ValidatorBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of flat and nested payloads against precompiled schemas, plus the legacy make-and-validate path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidateBenchmark {
+
+    private Map<String, String> flatRules;
+    private CompiledSchema flatSchema;
+    private Map<String, Object> flatPayload;
+    private CompiledSchema nestedSchema;
+    private Map<String, Object> nestedPayload;
+
+    @Setup
+    public void setUp() {
+        flatRules = BenchmarkData.flatRules();
+        flatSchema = ValidatorBuilder.compile(flatRules);
+        flatPayload = BenchmarkData.flatPayload();
+        nestedSchema = ValidatorBuilder.compile(BenchmarkData.nestedRules());
+        nestedPayload = BenchmarkData.nestedPayload();
+    }
+
+    @Benchmark
+    public ValidationResult flat() {
+        return flatSchema.validate(flatPayload);
+    }
+
+    @Benchmark
+    public ValidationResult nested() {
+        return nestedSchema.validate(nestedPayload);
+    }
+
+    @Benchmark
+    public boolean flatMakeAndValidate() {
+        return ValidatorBuilder.make(flatPayload, flatRules).validate();
+    }
+}
@@ -0,0 +1,47 @@
+package io.leantony.validator.benchmarks;
+
+import io.leantony.validator.CompiledSchema;
+import io.leantony.validator.ValidationResult;
+import io.leantony.validator.ValidatorBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wildcard and range expansion over large lists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WildcardBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private CompiledSchema wildcardSchema;
+    private CompiledSchema rangeSchema;
+    private Map<String, Object> payload;
+
+    @Setup
+    public void setUp() {
+        wildcardSchema = ValidatorBuilder.compile(Map.of(
+                "items[*].sku", "required|alphanumeric",
+                "items[*].quantity", "required|numeric|min:1"));
+        rangeSchema = ValidatorBuilder.compile(Map.of("items[0-49].sku", "required|alphanumeric"));
+        payload = BenchmarkData.itemsPayload(size);
+    }
+
+    @Benchmark
+    public ValidationResult wildcard() {
+        return wildcardSchema.validate(payload);
+    }
+
+    @Benchmark
+    public ValidationResult range() {
+        return rangeSchema.validate(payload);
+    }
+}
@@ -0,0 +1,426 @@
+package io.leantony.validator;
+
+import com.fasterxml.jackson.core.JsonParser;
+import io.leantony.validator.rules.BailRule;
+import io.leantony.validator.rules.CrossFieldRule;
+import io.leantony.validator.rules.DetailedRule;
+import io.leantony.validator.rules.FieldReference;
+import io.leantony.validator.rules.OptionalRule;
+import io.leantony.validator.rules.PrerequisiteRule;
+import io.leantony.validator.rules.PresenceIndex;
+import io.leantony.validator.rules.ReferenceTable;
+import io.leantony.validator.rules.ValidationContext;
+import io.leantony.validator.rules.ValidationRule;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A rule schema whose DSL definitions have already been parsed into {@link ValidationRule} instances.
+ * <p>
+ * Compile a schema once (see {@link ValidatorBuilder#compile(Map)}) and reuse it for every payload;
+ * validating against a compiled schema performs no DSL parsing and no rule construction.
+ * A schema is immutable and keeps no per-payload state, so a single instance can be shared by
+ * any number of threads, each calling {@link #validate(Map)} with its own data.
+ */
+@SuppressWarnings("rawtypes")
+public final class CompiledSchema {
+    private final Map<String, List<ValidationRule>> rules;
+    private final FieldRules[] fields;
+    private final boolean stopOnFirstFailure;
+    private final boolean implicitBail;
+    // The fields read by cross-field rules, kept alongside the rule keys when reading JSON.
+    private final List<FieldPath> referencedPaths;
+    // The slots of the fields read by cross-field rules, for the PresenceIndex of each payload.
+    private final ReferenceTable references;
+    private final ValidationListener listener;
+    // The Validator.getMaxNestingDepth() the keys were checked against.
+    private final int maxNestingDepth;
+    private volatile JsonPayloadReader payloadReader;
+
+    /**
+     * Instantiates a new Compiled schema.
+     *
+     * @param rules the parsed rules, keyed by field
+     */
+    CompiledSchema(Map<String, List<ValidationRule>> rules) {
+        this(rules, Map.of());
+    }
+
+    /**
+     * Instantiates a new Compiled schema.
+     *
+     * @param rules the parsed rules, keyed by field
+     * @param specs the names and parameters the rules were parsed from, keyed by field;
+     *              rules without one are named after their class
+     */
+    CompiledSchema(Map<String, List<ValidationRule>> rules, Map<String, List<RuleSpec>> specs) {
+        Map<String, List<ValidationRule>> copy = new LinkedHashMap<>();
+        List<FieldRules> compiled = new ArrayList<>(rules.size());
+        List<ValidationRule> allRules = new ArrayList<>();
+        int maxDepth = Validator.getMaxNestingDepth();
+        for (Map.Entry<String, List<ValidationRule>> entry : rules.entrySet()) {
+            String key = entry.getKey();
+            FieldPath path = FieldPath.compile(key);
+            if (path.getDepth() > maxDepth) {
+                throw new IllegalArgumentException("Rule '" + key + "' exceeds maximum allowed nesting depth (" + maxDepth + ")");
+            }
+            List<ValidationRule> ruleList = List.copyOf(entry.getValue());
+            copy.put(key, ruleList);
+            allRules.addAll(ruleList);
+            List<RuleSpec> specList = specs.get(key);
+            compiled.add(new FieldRules(path, ruleList, specList != null ? specList : RuleSpec.describe(ruleList)));
+        }
+        this.rules = Collections.unmodifiableMap(copy);
+        this.fields = compiled.toArray(new FieldRules[0]);
+        this.stopOnFirstFailure = false;
+        this.implicitBail = false;
+        this.referencedPaths = referencedPaths(allRules);
+        this.references = ReferenceTable.of(allRules);
+        this.listener = null;
+        this.maxNestingDepth = maxDepth;
+    }
+
+    private CompiledSchema(CompiledSchema source, boolean stopOnFirstFailure, boolean implicitBail, ValidationListener listener) {
+        this.rules = source.rules;
+        this.fields = source.fields;
+        this.stopOnFirstFailure = stopOnFirstFailure;
+        this.implicitBail = implicitBail;
+        this.referencedPaths = source.referencedPaths;
+        this.references = source.references;
+        this.listener = listener;
+        this.maxNestingDepth = source.maxNestingDepth;
+        this.payloadReader = source.payloadReader;
+    }
+
+    /**
+     * Returns a schema with the same rules that stops validating the payload after the first failed rule,
+     * so at most one error is reported.
+     *
+     * @param stopOnFirstFailure whether to stop after the first failure
+     * @return a schema using the given mode
+     */
+    public CompiledSchema withStopOnFirstFailure(boolean stopOnFirstFailure) {
+        return new CompiledSchema(this, stopOnFirstFailure, implicitBail, listener);
+    }
+
+    /**
+     * Returns a schema with the same rules that skips the remaining rules of a field once a
+     * {@link PrerequisiteRule} (a presence or type check such as required, numeric or date) has failed on it.
+     *
+     * @param implicitBail whether failed prerequisite rules end the validation of their field
+     * @return a schema using the given mode
+     */
+    public CompiledSchema withImplicitBail(boolean implicitBail) {
+        return new CompiledSchema(this, stopOnFirstFailure, implicitBail, listener);
+    }
+
+    /**
+     * Returns a schema with the same rules and modes that reports its work to a listener.
+     *
+     * @param listener the listener, or null to remove it
+     * @return a schema using the given listener
+     */
+    public CompiledSchema withListener(ValidationListener listener) {
+        return new CompiledSchema(this, stopOnFirstFailure, implicitBail, listener);
+    }
+
+    /**
+     * Gets the listener.
+     *
+     * @return the listener, or null if none is attached
+     */
+    public ValidationListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Gets the maximum nesting depth the rule keys were checked against when this schema was compiled.
+     *
+     * @return the depth
+     */
+    int getMaxNestingDepth() {
+        return maxNestingDepth;
+    }
+
+    /**
+     * Whether validation stops after the first failed rule.
+     *
+     * @return true if validation stops after the first failure
+     */
+    public boolean isStopOnFirstFailure() {
+        return stopOnFirstFailure;
+    }
+
+    /**
+     * Whether a failed prerequisite rule ends the validation of its field.
+     *
+     * @return true if implicit bail is enabled
+     */
+    public boolean isImplicitBail() {
+        return implicitBail;
+    }
+
+    /**
+     * Gets the parsed rules, keyed by field.
+     *
+     * @return an unmodifiable view of the rules
+     */
+    public Map<String, List<ValidationRule>> getRules() {
+        return rules;
+    }
+
+    /**
+     * Creates a Validator for the given data that reuses the rules of this schema.
+     *
+     * @param data a Map representing your DTO
+     * @return a Validator instance
+     */
+    public Validator validator(Map<String, Object> data) {
+        return new Validator(data, this);
+    }
+
+    /**
+     * Validates the data against this schema.
+     * Keys containing wildcards or ranges are expanded against the data; every resolved field is
+     * checked with the rules of the key it was resolved from. For such keys the rules receive the
+     * key itself (e.g. "items.*.sku") as the field name when validating, and the concrete path
+     * (e.g. "items[3].sku") is only built when an error message has to be produced.
+     * <p>
+     * A field marked with {@code bail} stops at its first failed rule; see also
+     * {@link #withStopOnFirstFailure(boolean)} and {@link #withImplicitBail(boolean)}.
+     *
+     * @param data a Map representing your DTO
+     * @return a new result holding the errors for this data
+     */
+    public ValidationResult validate(Map<String, Object> data) {
+        if (listener == null) {
+            return validateFields(data);
+        }
+        long start = System.nanoTime();
+        listener.validationStarted(data);
+        ValidationResult result = validateFields(data);
+        listener.validationFinished(result, System.nanoTime() - start);
+        return result;
+    }
+
+    private ValidationResult validateFields(Map<String, Object> data) {
+        List<ValidationError> errors = new ArrayList<>();
+        // Fields referenced by cross-field rules are read at most once per payload; schemas without any need no index.
+        PresenceIndex presence = references.isEmpty() ? null : new PresenceIndex(references);
+        ValidationContext root = presence != null ? presence : ValidationContext.ROOT;
+        PathCursor cursor = null;
+        for (FieldRules field : fields) {
+            if (field.path.hasWildcards()) {
+                if (cursor == null) {
+                    cursor = new PathCursor(Validator.getMaxNestingDepth(), presence);
+                }
+                expand(field, data, 0, cursor, data, errors);
+            } else {
+                validateField(field, root, null, field.path.resolve(data), data, errors);
+            }
+            if (isStopped(errors)) {
+                break;
+            }
+        }
+        return new ValidationResult(errors);
+    }
+
+    /**
+     * Validates a JSON object read from the parser, without binding the whole payload first.
+     * <p>
+     * This is a pruned read, not streaming validation: the tokens are walked once into a map that keeps only
+     * the values this schema can reach (the values under the rule keys and under the fields read by
+     * {@link CrossFieldRule}s), and that map is then validated as by {@link #validate(Map)}. Every other
+     * subtree is skipped without being materialized. Memory therefore follows the size of the kept values:
+     * a key such as {@code items.*.sku} keeps the sku of every item, however many there are.
+     * The errors are the same as for {@link #validate(Map)} with the fully bound payload, provided custom
+     * rules that read other fields implement {@link CrossFieldRule}.
+     *
+     * @param parser a parser positioned before or on the START_OBJECT of the payload
+     * @return a new result holding the errors for this payload
+     * @throws IOException if the JSON cannot be read
+     */
+    public ValidationResult validate(JsonParser parser) throws IOException {
+        return validate(payloadReader().read(parser));
+    }
+
+    private JsonPayloadReader payloadReader() {
+        JsonPayloadReader reader = payloadReader;
+        if (reader == null) {
+            List<FieldPath> paths = new ArrayList<>();
+            for (FieldRules field : fields) {
+                paths.add(field.path);
+            }
+            paths.addAll(referencedPaths);
+            reader = new JsonPayloadReader(paths);
+            payloadReader = reader;
+        }
+        return reader;
+    }
+
+    private static List<FieldPath> referencedPaths(List<ValidationRule> rules) {
+        List<FieldPath> paths = new ArrayList<>();
+        for (ValidationRule rule : rules) {
+            if (rule instanceof CrossFieldRule crossField) {
+                for (FieldReference reference : crossField.getReferences()) {
+                    paths.add(FieldPath.compile(reference.getReference()));
+                }
+            }
+        }
+        return List.copyOf(paths);
+    }
+
+    private boolean isStopped(List<ValidationError> errors) {
+        return stopOnFirstFailure && !errors.isEmpty();
+    }
+
+    private void validateField(FieldRules field, ValidationContext context, PathCursor cursor, Object value, Map<String, Object> data,
+                               List<ValidationError> errors) {
+        // If the field is marked optional and the value is empty, skip further validation.
+        if (field.optional && isEmpty(value)) {
+            return;
+        }
+        String key = field.path.getKey();
+        String path = cursor == null ? key : null;
+        ValidationRule[] rules = field.rules;
+        for (int i = 0; i < rules.length; i++) {
+            ValidationRule rule = rules[i];
+            Object failure = listener == null
+                    ? check(rule, key, value, data, context)
+                    : checkObserved(rule, field.specs[i], key, value, data, context);
+            if (failure != null) {
+                if (path == null) {
+                    path = cursor.render();
+                }
+                RuleSpec spec = field.specs[i];
+                // The cursor moves on, so the message gets a copy of the position.
+                ValidationContext errorContext = cursor == null ? ValidationContext.ROOT : cursor.snapshot();
+                errors.add(new ValidationError(path, spec.name(), spec.parameter(), rule, failure, value, data, errorContext));
+                if (field.bail || stopOnFirstFailure || (implicitBail && field.prerequisite[i])) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs a rule, returning null if it passes. A failed {@link DetailedRule} returns its detail for the message;
+     * other rules return {@link ValidationError#NO_DETAIL}.
+     */
+    private static Object check(ValidationRule rule, String key, Object value, Map<String, Object> data, ValidationContext context) {
+        if (rule instanceof DetailedRule detailed) {
+            return detailed.check(key, value, data, context);
+        }
+        return rule.validate(key, value, data, context) ? null : ValidationError.NO_DETAIL;
+    }
+
+    private Object checkObserved(ValidationRule rule, RuleSpec spec, String key, Object value, Map<String, Object> data,
+                                 ValidationContext context) {
+        long start = System.nanoTime();
+        Object failure = check(rule, key, value, data, context);
+        listener.ruleEvaluated(key, spec.name(), failure == null, System.nanoTime() - start);
+        return failure;
+    }
+
+    private static boolean isEmpty(Object value) {
+        return value == null || value.toString().trim().isEmpty();
+    }
+
+    /**
+     * Walks the data along the wildcard and range segments of a key, validating every value it reaches.
+     * Nothing is collected along the way; the cursor records the position so a path can be rendered on failure.
+     */
+    @SuppressWarnings("unchecked")
+    private void expand(FieldRules field, Object current, int index, PathCursor cursor, Map<String, Object> data, List<ValidationError> errors) {
+        FieldPath path = field.path;
+        if (index >= path.getDepth()) {
+            validateField(field, cursor, cursor, current, data, errors);
+            return;
+        }
+        FieldPath.Segment segment = path.segment(index);
+        switch (segment.type()) {
+            case INDEX, ALL_INDEXES, RANGE -> {
+                // Token like: field[index], where index may be a concrete number, a wildcard (*), or a range (x-y)
+                String key = segment.name();
+                Object next = null;
+                if (current instanceof Map) {
+                    next = ((Map<String, Object>) current).get(key);
+                }
+                if (next == null) return;
+                cursor.pushName(key, next);
+                if (next instanceof List list) {
+                    int start = segment.type() == FieldPath.SegmentType.ALL_INDEXES ? 0 : segment.start();
+                    int end = segment.type() == FieldPath.SegmentType.ALL_INDEXES ? list.size() - 1 : segment.end();
+                    for (int i = start; i <= end && i < list.size() && !isStopped(errors); i++) {
+                        cursor.pushIndex(i, list.get(i));
+                        expand(field, list.get(i), index + 1, cursor, data, errors);
+                        cursor.pop();
+                    }
+                } else {
+                    // If next is not a list, just continue with the key resolved.
+                    expand(field, next, index + 1, cursor, data, errors);
+                }
+                cursor.pop();
+            }
+            case ALL -> {
+                // Wildcard for maps or lists at this level.
+                if (current instanceof Map<?, ?> map) {
+                    for (Map.Entry<?, ?> entry : map.entrySet()) {
+                        cursor.pushName(entry.getKey(), entry.getValue());
+                        expand(field, entry.getValue(), index + 1, cursor, data, errors);
+                        cursor.pop();
+                        if (isStopped(errors)) return;
+                    }
+                } else if (current instanceof List list) {
+                    for (int i = 0; i < list.size(); i++) {
+                        cursor.pushIndex(i, list.get(i));
+                        expand(field, list.get(i), index + 1, cursor, data, errors);
+                        cursor.pop();
+                        if (isStopped(errors)) return;
+                    }
+                }
+            }
+            case NAME -> {
+                // Plain field name
+                Object next = null;
+                if (current instanceof Map) {
+                    next = ((Map<String, Object>) current).get(segment.name());
+                }
+                if (next != null) {
+                    cursor.pushName(segment.name(), next);
+                    expand(field, next, index + 1, cursor, data, errors);
+                    cursor.pop();
+                }
+            }
+        }
+    }
+
+    /**
+     * The rules of a single key, with everything that does not depend on the data worked out up front.
+     */
+    private static final class FieldRules {
+        private final FieldPath path;
+        private final ValidationRule[] rules;
+        private final RuleSpec[] specs;
+        private final boolean[] prerequisite;
+        private final boolean optional;
+        private final boolean bail;
+
+        private FieldRules(FieldPath path, List<ValidationRule> rules, List<RuleSpec> specs) {
+            this.path = path;
+            this.rules = rules.toArray(new ValidationRule[0]);
+            this.specs = specs.toArray(new RuleSpec[0]);
+            this.prerequisite = new boolean[this.rules.length];
+            for (int i = 0; i < this.rules.length; i++) {
+                this.prerequisite[i] = this.rules[i] instanceof PrerequisiteRule;
+            }
+            this.optional = rules.stream().anyMatch(rule -> rule instanceof OptionalRule);
+            this.bail = rules.stream().anyMatch(rule -> rule instanceof BailRule);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.leantony.validator;
+
+/**
+ * How {@link ValidationHelper} turns a DTO into the data map the rules read from.
+ */
+public enum DataAccessMode {
+    /**
+     * Converts the whole DTO into a fresh map tree with {@code ObjectMapper.convertValue}.
+     */
+    CONVERT_VALUE,
+
+    /**
+     * Wraps the DTO in a read-only map view that reads a property only when a rule asks for it,
+     * through accessors resolved once per class from the ObjectMapper's bean introspection
+     * (so Jackson property names, {@code @JsonProperty} and {@code @JsonIgnore} are honored).
+     * Nested beans, maps and collections are wrapped the same way; other values such as enums,
+     * dates or types with a {@code @JsonValue} are converted with the ObjectMapper when read.
+     */
+    PROPERTY_ACCESSORS
+}
@@ -0,0 +1,170 @@
+package io.leantony.validator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A rule key such as {@code users[*].names.first} split into segments once, so that values can be
+ * looked up by walking the segments instead of splitting and matching the key on every validation.
+ * <p>
+ * Each dot-separated part of the key becomes one segment:
+ * <ul>
+ *     <li>{@code name} - a map entry</li>
+ *     <li>{@code name[3]} - a map entry followed by a fixed list index</li>
+ *     <li>{@code name[*]} - a map entry followed by every list index</li>
+ *     <li>{@code name[1-5]} - a map entry followed by a range of list indexes</li>
+ *     <li>{@code *} - every entry of a map or every element of a list</li>
+ * </ul>
+ */
+@SuppressWarnings("RegExpRedundantEscape")
+public final class FieldPath {
+    // Precompiled regex to match tokens like "users[0]", "users[*]", or "users[1-5]"
+    private static final Pattern INDEX_PATTERN = Pattern.compile("(.+)\\[(\\*|\\d+(?:-\\d+)?)\\]");
+
+    private final String key;
+    private final Segment[] segments;
+    private final boolean wildcard;
+
+    private FieldPath(String key, Segment[] segments) {
+        this.key = key;
+        this.segments = segments;
+        boolean hasWildcard = false;
+        for (Segment segment : segments) {
+            hasWildcard |= segment.type == SegmentType.ALL || segment.type == SegmentType.ALL_INDEXES || segment.type == SegmentType.RANGE;
+        }
+        this.wildcard = hasWildcard;
+    }
+
+    /**
+     * Splits a rule key into its segments.
+     *
+     * @param key the rule key, e.g. "users[*].email"
+     * @return the compiled path
+     */
+    public static FieldPath compile(String key) {
+        String[] parts = key.split("\\.");
+        List<Segment> segments = new ArrayList<>(parts.length);
+        for (String part : parts) {
+            segments.add(parseSegment(key, part));
+        }
+        return new FieldPath(key, segments.toArray(new Segment[0]));
+    }
+
+    private static Segment parseSegment(String key, String part) {
+        if (part.equals("*")) {
+            return new Segment(SegmentType.ALL, null, 0, 0);
+        }
+        Matcher matcher = INDEX_PATTERN.matcher(part);
+        if (!matcher.matches()) {
+            return new Segment(SegmentType.NAME, part, 0, 0);
+        }
+        String name = matcher.group(1);
+        String indexPart = matcher.group(2);
+        try {
+            if (indexPart.equals("*")) {
+                return new Segment(SegmentType.ALL_INDEXES, name, 0, 0);
+            }
+            int dash = indexPart.indexOf('-');
+            if (dash != -1) {
+                int start = Integer.parseInt(indexPart.substring(0, dash));
+                int end = Integer.parseInt(indexPart.substring(dash + 1));
+                return new Segment(SegmentType.RANGE, name, start, end);
+            }
+            int index = Integer.parseInt(indexPart);
+            return new Segment(SegmentType.INDEX, name, index, index);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid index in rule '" + key + "': " + part, e);
+        }
+    }
+
+    /**
+     * Gets the key this path was compiled from.
+     *
+     * @return the key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Gets the number of dot-separated segments.
+     *
+     * @return the depth
+     */
+    public int getDepth() {
+        return segments.length;
+    }
+
+    /**
+     * Whether the path contains a wildcard or a range and therefore may match several values.
+     *
+     * @return true if the path must be expanded against the data
+     */
+    public boolean hasWildcards() {
+        return wildcard;
+    }
+
+    Segment segment(int index) {
+        return segments[index];
+    }
+
+    /**
+     * Retrieves the value at this path.
+     * Wildcards and ranges are not expanded; use this for paths without them.
+     *
+     * @param data the data to read from
+     * @return the value, or null if any part of the path is missing
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object resolve(Map<String, Object> data) {
+        Object current = data;
+        for (Segment segment : segments) {
+            if (current == null) return null;
+            if (segment.type == SegmentType.NAME) {
+                if (current instanceof Map) {
+                    current = ((Map<String, Object>) current).get(segment.name);
+                } else {
+                    return null;
+                }
+            } else {
+                if (segment.name != null && current instanceof Map) {
+                    current = ((Map<String, Object>) current).get(segment.name);
+                }
+                if (current instanceof List list) {
+                    if (segment.start < list.size()) {
+                        current = list.get(segment.start);
+                    } else {
+                        return null;
+                    }
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+
+    /**
+     * The kinds of segment a path can contain.
+     */
+    enum SegmentType {
+        NAME, INDEX, ALL_INDEXES, RANGE, ALL
+    }
+
+    /**
+     * One dot-separated part of a path.
+     *
+     * @param type  the kind of segment
+     * @param name  the map key, or null for a bare {@code *}
+     * @param start the fixed index or the first index of a range
+     * @param end   the last index of a range
+     */
+    record Segment(SegmentType type, String name, int start, int end) {
+    }
+}
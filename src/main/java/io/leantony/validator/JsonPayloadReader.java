@@ -0,0 +1,184 @@
+package io.leantony.validator;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a JSON payload into the data map of a schema while keeping only what the schema can look at.
+ * <p>
+ * The reader is built from the compiled paths of the rule keys and of the fields read by cross-field rules.
+ * It walks the tokens once: values under a path are read, everything else is passed over with
+ * {@link JsonParser#skipChildren()} without being materialized. The result has the same shape
+ * (maps, lists, strings, numbers, booleans and nulls) as a map bound by Jackson, so the rules behave as usual.
+ * Rules are not run while reading; the pruned map is validated once it is complete, so a wildcard key
+ * still keeps one value per element of its list.
+ */
+final class JsonPayloadReader {
+    private final Node root = new Node();
+
+    JsonPayloadReader(Iterable<FieldPath> paths) {
+        for (FieldPath path : paths) {
+            add(path);
+        }
+    }
+
+    private void add(FieldPath path) {
+        Node node = root;
+        for (int i = 0; i < path.getDepth(); i++) {
+            FieldPath.Segment segment = path.segment(i);
+            switch (segment.type()) {
+                case NAME -> node = node.names.computeIfAbsent(segment.name(), name -> new Node());
+                case ALL -> {
+                    if (node.any == null) node.any = new Node();
+                    node = node.any;
+                }
+                case INDEX, ALL_INDEXES, RANGE -> {
+                    node = node.names.computeIfAbsent(segment.name(), name -> new Node());
+                    if (node.element == null) node.element = new Node();
+                    int last = segment.type() == FieldPath.SegmentType.ALL_INDEXES ? Integer.MAX_VALUE : segment.end();
+                    node.lastIndex = Math.max(node.lastIndex, last);
+                    node = node.element;
+                }
+            }
+        }
+        // The rules of this key may inspect the value as a whole.
+        node.full = true;
+    }
+
+    /**
+     * Reads the payload object the parser is positioned on (or about to reach).
+     *
+     * @param parser the parser
+     * @return the data map
+     * @throws IOException if the JSON cannot be read
+     */
+    Map<String, Object> read(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+        if (token != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Expected a JSON object but found " + token);
+        }
+        return readObject(parser, List.of(root));
+    }
+
+    private Object readValue(JsonParser parser, List<Node> nodes) throws IOException {
+        boolean object = parser.currentToken() == JsonToken.START_OBJECT;
+        for (Node node : nodes) {
+            if (node.full || (object && node.element != null && node.element.full)) {
+                return readFully(parser);
+            }
+        }
+        return switch (parser.currentToken()) {
+            case START_OBJECT -> readObject(parser, nodes);
+            case START_ARRAY -> readArray(parser, nodes);
+            default -> readScalar(parser);
+        };
+    }
+
+    private Map<String, Object> readObject(JsonParser parser, List<Node> nodes) throws IOException {
+        // An indexed key such as user[0].name also applies to user when user is an object.
+        List<Node> effective = nodes;
+        for (Node node : nodes) {
+            if (node.element != null) {
+                if (effective == nodes) effective = new ArrayList<>(nodes);
+                effective.add(node.element);
+            }
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            List<Node> children = new ArrayList<>(2);
+            for (Node node : effective) {
+                Node child = node.names.get(name);
+                if (child != null) children.add(child);
+                if (node.any != null) children.add(node.any);
+            }
+            if (children.isEmpty()) {
+                parser.skipChildren();
+            } else {
+                map.put(name, readValue(parser, children));
+            }
+        }
+        return map;
+    }
+
+    private List<Object> readArray(JsonParser parser, List<Node> nodes) throws IOException {
+        List<Object> list = new ArrayList<>();
+        int index = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            List<Node> children = new ArrayList<>(2);
+            for (Node node : nodes) {
+                if (node.any != null) children.add(node.any);
+                if (node.element != null && index <= node.lastIndex) children.add(node.element);
+            }
+            if (children.isEmpty()) {
+                // Past the last referenced index: nothing further in this array can be reached.
+                parser.skipChildren();
+                skipToEnd(parser);
+                break;
+            }
+            list.add(readValue(parser, children));
+            index++;
+        }
+        return list;
+    }
+
+    private static void skipToEnd(JsonParser parser) throws IOException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+        }
+    }
+
+    private static Object readFully(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT -> {
+                Map<String, Object> map = new LinkedHashMap<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    parser.nextToken();
+                    map.put(name, readFully(parser));
+                }
+                return map;
+            }
+            case START_ARRAY -> {
+                List<Object> list = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    list.add(readFully(parser));
+                }
+                return list;
+            }
+            default -> {
+                return readScalar(parser);
+            }
+        }
+    }
+
+    private static Object readScalar(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_EMBEDDED_OBJECT -> parser.getEmbeddedObject();
+            default -> null;
+        };
+    }
+
+    /**
+     * One step of the selected paths.
+     */
+    private static final class Node {
+        private final Map<String, Node> names = new HashMap<>();
+        private Node any;
+        private Node element;
+        private int lastIndex = -1;
+        private boolean full;
+    }
+}
@@ -0,0 +1,138 @@
+package io.leantony.validator;
+
+import io.leantony.validator.rules.FieldReference;
+import io.leantony.validator.rules.PresenceIndex;
+import io.leantony.validator.rules.ValidationContext;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Tracks the position reached while a wildcard path is expanded against the data.
+ * <p>
+ * Each step records the map key or list index that was followed and the node it reached; the concrete
+ * path string (e.g. {@code items[1234].sku}) is only built by {@link #render()}, which the validator calls
+ * when an error has to be reported. The cursor is also the {@link ValidationContext} passed to the rules,
+ * so cross-field rules can resolve sibling fields from the nodes already reached.
+ */
+final class PathCursor implements ValidationContext {
+    private Object[] names;
+    private int[] indexes;
+    private Object[] nodes;
+    private int size;
+    private final PresenceIndex presence;
+
+    PathCursor(int capacity, PresenceIndex presence) {
+        this.names = new Object[capacity];
+        this.indexes = new int[capacity];
+        this.nodes = new Object[capacity];
+        this.presence = presence;
+    }
+
+    private PathCursor(PathCursor source) {
+        this.names = Arrays.copyOf(source.names, source.size);
+        this.indexes = Arrays.copyOf(source.indexes, source.size);
+        this.nodes = Arrays.copyOf(source.nodes, source.size);
+        this.size = source.size;
+        this.presence = null;
+    }
+
+    /**
+     * Appends a step that followed a map key.
+     *
+     * @param name the map key that was followed
+     * @param node the value found under the key
+     */
+    void pushName(Object name, Object node) {
+        push(name, -1, node);
+    }
+
+    /**
+     * Appends a step that followed a list index.
+     *
+     * @param index the list index that was followed
+     * @param node  the element found at the index
+     */
+    void pushIndex(int index, Object node) {
+        push(null, index, node);
+    }
+
+    private void push(Object name, int index, Object node) {
+        if (size == names.length) {
+            int capacity = Math.max(2, size * 2);
+            names = Arrays.copyOf(names, capacity);
+            indexes = Arrays.copyOf(indexes, capacity);
+            nodes = Arrays.copyOf(nodes, capacity);
+        }
+        names[size] = name;
+        indexes[size] = index;
+        nodes[size] = node;
+        size++;
+    }
+
+    void pop() {
+        size--;
+        names[size] = null;
+        nodes[size] = null;
+    }
+
+    /**
+     * Copies the current position, e.g. for an error message rendered after the walk has moved on.
+     *
+     * @return a cursor that no longer changes
+     */
+    PathCursor snapshot() {
+        return new PathCursor(this);
+    }
+
+    /**
+     * Builds the concrete path of the current position.
+     *
+     * @return the path, e.g. "users[0].email"
+     */
+    String render() {
+        StringBuilder path = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (names[i] != null) {
+                if (!path.isEmpty()) path.append('.');
+                path.append(names[i]);
+            } else {
+                path.append('[').append(indexes[i]).append(']');
+            }
+        }
+        return path.toString();
+    }
+
+    @Override
+    public int getDepth() {
+        return size;
+    }
+
+    @Override
+    public String getName(int step) {
+        Object name = names[checkStep(step)];
+        return name == null ? null : name.toString();
+    }
+
+    @Override
+    public int getIndex(int step) {
+        return indexes[checkStep(step)];
+    }
+
+    @Override
+    public Object getNode(int step) {
+        return nodes[checkStep(step)];
+    }
+
+    @Override
+    public String getText(FieldReference reference, Map<String, Object> data) {
+        return presence != null ? presence.getText(reference, data, this) : ValidationContext.super.getText(reference, data);
+    }
+
+    private int checkStep(int step) {
+        if (step < 0 || step >= size) {
+            throw new IndexOutOfBoundsException(step);
+        }
+        return step;
+    }
+}
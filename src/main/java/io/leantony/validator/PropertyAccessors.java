@@ -0,0 +1,292 @@
+package io.leantony.validator;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-only map views over DTOs, used by {@link DataAccessMode#PROPERTY_ACCESSORS}.
+ * <p>
+ * The properties of each class are resolved once through the ObjectMapper's bean introspection and
+ * kept as method handles; a property is only read, and its value only wrapped, when a rule asks for it.
+ */
+final class PropertyAccessors {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ClassAccessors> accessorsByClass = new ConcurrentHashMap<>();
+
+    PropertyAccessors(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the data map for a DTO.
+     *
+     * @param dto the data transfer object
+     * @return a lazy view of the DTO
+     */
+    @SuppressWarnings("unchecked")
+    Map<String, Object> asMap(Object dto) {
+        Object wrapped = wrap(dto);
+        if (wrapped instanceof Map) {
+            return (Map<String, Object>) wrapped;
+        }
+        // Not a bean or a map (e.g. a JsonNode); let Jackson decide what it looks like.
+        return objectMapper.convertValue(dto, new TypeReference<>() {
+        });
+    }
+
+    /**
+     * Converts a property value into what the rules expect to see, matching the shapes produced by
+     * {@code convertValue}: beans and maps become maps, arrays and collections become lists.
+     */
+    private Object wrap(Object value) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Character) {
+            return value.toString();
+        }
+        if (value instanceof byte[]) {
+            // Jackson writes binary data as a base64 string.
+            return objectMapper.convertValue(value, Object.class);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return new MapView(map);
+        }
+        if (value instanceof List<?> list) {
+            return new ListView(list);
+        }
+        if (value instanceof Collection<?> collection) {
+            return new ListView(new ArrayList<>(collection));
+        }
+        if (value.getClass().isArray()) {
+            return new ArrayView(value);
+        }
+        ClassAccessors accessors = accessorsByClass.computeIfAbsent(value.getClass(), this::introspect);
+        if (accessors.getters.isEmpty()) {
+            // Enums, dates, @JsonValue types and other scalars: use the ObjectMapper's representation.
+            return objectMapper.convertValue(value, Object.class);
+        }
+        return new BeanView(value, accessors);
+    }
+
+    private ClassAccessors introspect(Class<?> type) {
+        Map<String, MethodHandle> getters = new LinkedHashMap<>();
+        if (isBean(type)) {
+            BeanDescription description = objectMapper.getSerializationConfig().introspect(objectMapper.constructType(type));
+            if (description.findJsonValueAccessor() == null) {
+                for (BeanPropertyDefinition property : description.findProperties()) {
+                    AnnotatedMember accessor = property.getAccessor();
+                    if (accessor == null) continue;
+                    getters.put(property.getName(), toHandle(type, accessor));
+                }
+            }
+        }
+        return new ClassAccessors(getters);
+    }
+
+    private static boolean isBean(Class<?> type) {
+        String name = type.getName();
+        return !type.isEnum() && !type.isPrimitive() && !name.startsWith("java.") && !name.startsWith("javax.");
+    }
+
+    private static MethodHandle toHandle(Class<?> type, AnnotatedMember accessor) {
+        accessor.fixAccess(true);
+        Member member = accessor.getMember();
+        try {
+            MethodHandle handle = member instanceof Method method
+                    ? MethodHandles.lookup().unreflect(method)
+                    : MethodHandles.lookup().unreflectGetter((Field) member);
+            return handle.asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access property '" + accessor.getName() + "' of " + type.getName(), e);
+        }
+    }
+
+    private record ClassAccessors(Map<String, MethodHandle> getters) {
+    }
+
+    /**
+     * A bean seen as a map of its Jackson properties.
+     */
+    private final class BeanView extends AbstractMap<String, Object> {
+        private final Object bean;
+        private final ClassAccessors accessors;
+
+        private BeanView(Object bean, ClassAccessors accessors) {
+            this.bean = bean;
+            this.accessors = accessors;
+        }
+
+        @Override
+        public Object get(Object key) {
+            MethodHandle getter = accessors.getters.get(key);
+            return getter == null ? null : read(getter, key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return accessors.getters.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return accessors.getters.size();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    Iterator<Entry<String, MethodHandle>> getters = accessors.getters.entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return getters.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            Entry<String, MethodHandle> getter = getters.next();
+                            return new SimpleImmutableEntry<>(getter.getKey(), read(getter.getValue(), getter.getKey()));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return accessors.getters.size();
+                }
+            };
+        }
+
+        private Object read(MethodHandle getter, Object key) {
+            try {
+                return wrap((Object) getter.invokeExact(bean));
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalArgumentException("Could not read property '" + key + "' of " + bean.getClass().getName(), e);
+            }
+        }
+    }
+
+    /**
+     * A map whose values are wrapped as they are read.
+     */
+    private final class MapView extends AbstractMap<String, Object> {
+        private final Map<?, ?> map;
+
+        private MapView(Map<?, ?> map) {
+            this.map = map;
+        }
+
+        @Override
+        public Object get(Object key) {
+            return wrap(map.get(key));
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    Iterator<? extends Entry<?, ?>> entries = map.entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            Entry<?, ?> entry = entries.next();
+                            return new SimpleImmutableEntry<>(String.valueOf(entry.getKey()), wrap(entry.getValue()));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return map.size();
+                }
+            };
+        }
+    }
+
+    /**
+     * A list whose elements are wrapped as they are read.
+     */
+    private final class ListView extends AbstractList<Object> {
+        private final List<?> list;
+
+        private ListView(List<?> list) {
+            this.list = list;
+        }
+
+        @Override
+        public Object get(int index) {
+            return wrap(list.get(index));
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+    }
+
+    /**
+     * An array of any component type seen as a list.
+     */
+    private final class ArrayView extends AbstractList<Object> {
+        private final Object array;
+
+        private ArrayView(Object array) {
+            this.array = array;
+        }
+
+        @Override
+        public Object get(int index) {
+            return wrap(Array.get(array, index));
+        }
+
+        @Override
+        public int size() {
+            return Array.getLength(array);
+        }
+    }
+}
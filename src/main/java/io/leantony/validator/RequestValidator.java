@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -38,4 +39,27 @@ public class RequestValidator {
     public static List<String> validate(Object object, Map<String, String> rules) {
         return getValidationHelper().validate(object, rules);
     }
+
+    /**
+     * Validate object and render the messages in a locale.
+     *
+     * @param object the object
+     * @param rules  the rules
+     * @param locale the locale of the messages
+     * @return the list
+     */
+    public static List<String> validate(Object object, Map<String, String> rules, Locale locale) {
+        return getValidationHelper().validate(object, rules, locale);
+    }
+
+    /**
+     * Validates every object against the same rules, in parallel.
+     *
+     * @param objects the objects
+     * @param rules   the rules
+     * @return one result per object, in input order
+     */
+    public static List<ValidationResult> validateAll(List<?> objects, Map<String, String> rules) {
+        return getValidationHelper().validateAll(objects, rules);
+    }
 }
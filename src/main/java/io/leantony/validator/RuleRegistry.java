@@ -1,8 +1,8 @@
 package io.leantony.validator;
 
-import io.cellulant.vas.validator.rules.*;
 import io.leantony.validator.rules.*;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -38,11 +38,14 @@ public class RuleRegistry {
             }
         });
 
-        // "alpha": Validates that a field contains only alphabetic characters.
-        registry.put("alpha", param -> new AlphaRule());
+        // "alpha": Validates that a field contains only alphabetic characters; "alpha:unicode" accepts any script.
+        registry.put("alpha", AlphaRule::new);
 
-        // "alphanumeric": Validates that a field contains only letters and digits.
-        registry.put("alphanumeric", param -> new AlphaNumericRule());
+        // "alphanumeric": Validates that a field contains only letters and digits; "alphanumeric:unicode" accepts any script.
+        registry.put("alphanumeric", AlphaNumericRule::new);
+
+        // "alphaDash": Validates that a field contains only letters, digits, dashes and underscores.
+        registry.put("alphaDash", AlphaDashRule::new);
 
         // "numeric": Validates that a field is numeric.
         // Optionally, a parameter can specify an exact digit count (ignoring non-digit characters).
@@ -54,6 +57,12 @@ public class RuleRegistry {
             }
         });
 
+        // "digitsBetween": Validates that a field is made only of digits, with a digit count in a range (e.g., "digitsBetween:4,6").
+        registry.put("digitsBetween", DigitsBetweenRule::new);
+
+        // "decimal": Validates that a field is a number with the given decimal places (e.g., "decimal:2" or "decimal:1,3").
+        registry.put("decimal", DecimalRule::new);
+
         // "regex": Validates that a field matches the specified regular expression.
         registry.put("regex", RegexRule::new);
 
@@ -63,6 +72,9 @@ public class RuleRegistry {
         // "nullable": Alias for optional.
         registry.put("nullable", param -> new OptionalRule());
 
+        // "bail": Stops validating a field after the first of its rules fails.
+        registry.put("bail", param -> new BailRule());
+
         // "afterOrEqual": Cross-field rule; ensures a field's value is after or equal to another field's value.
         registry.put("afterOrEqual", AfterOrEqualRule::new);
 
@@ -97,6 +109,14 @@ public class RuleRegistry {
         // "in": Validates that a field's value is contained within a provided list of allowed values.
         registry.put("in", InRule::new);
 
+        // "inIgnoreCase" / "notInIgnoreCase": As "in" / "notIn", comparing without regard to case.
+        registry.put("inIgnoreCase", param -> new InRule(param, MatchMode.IGNORE_CASE));
+        registry.put("notInIgnoreCase", param -> new NotInRule(param, MatchMode.IGNORE_CASE));
+
+        // "inNumeric" / "notInNumeric": As "in" / "notIn", comparing numerically (5, "5.0" and "5e0" are equal).
+        registry.put("inNumeric", param -> new InRule(param, MatchMode.NUMERIC));
+        registry.put("notInNumeric", param -> new NotInRule(param, MatchMode.NUMERIC));
+
         // "enum": Validates that a field's value is contained within the values of an existing enum class (fully qualified name).\n
         // Format: enum:com.example.myEnumClass\n" +
         registry.put("enum", EnumRule::new);
@@ -157,4 +177,28 @@ public class RuleRegistry {
     public static RuleFactory get(String ruleName) {
         return registry.get(ruleName);
     }
+
+    /**
+     * Wraps a registered rule so that its outcome is remembered per parameter and value.
+     * Rules that cannot be memoized (see {@link MemoizingRule#canMemoize(ValidationRule)}), such as
+     * {@code phoneno:countryField} or {@code required}, are created unwrapped. Schemas compiled before
+     * this call keep the unwrapped rule (see {@link ValidationHelper#clearSchemaCache()}).
+     *
+     * @param ruleName the rule name, e.g. "phoneno"
+     * @param maxSize  the maximum number of outcomes to keep
+     * @param ttl      how long an outcome stays valid, or null to keep it until evicted
+     * @return the cache, e.g. to read its hit and miss counts
+     */
+    public static RuleCache memoize(String ruleName, int maxSize, Duration ttl) {
+        RuleFactory factory = registry.get(ruleName);
+        if (factory == null) {
+            throw new IllegalArgumentException("Unknown validation rule: " + ruleName);
+        }
+        RuleCache cache = new RuleCache(maxSize, ttl);
+        registry.put(ruleName, param -> {
+            ValidationRule rule = factory.create(param);
+            return MemoizingRule.canMemoize(rule) ? new MemoizingRule(rule, param, cache) : rule;
+        });
+        return cache;
+    }
 }
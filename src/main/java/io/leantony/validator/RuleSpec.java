@@ -0,0 +1,50 @@
+package io.leantony.validator;
+
+import io.leantony.validator.rules.ValidationRule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The name and parameter a rule was created from, e.g. ("min", "8") for "min:8".
+ *
+ * @param name      the rule name
+ * @param parameter the parameter, or null
+ */
+record RuleSpec(String name, String parameter) {
+
+    /**
+     * Describes rules that were not created from the rule DSL, naming each after its class
+     * (e.g. "afterOrEqual" for AfterOrEqualRule).
+     *
+     * @param rules the rules
+     * @return one spec per rule
+     */
+    static List<RuleSpec> describe(List<ValidationRule> rules) {
+        List<RuleSpec> specs = new ArrayList<>(rules.size());
+        for (ValidationRule rule : rules) {
+            specs.add(new RuleSpec(nameOf(rule.getClass()), null));
+        }
+        return specs;
+    }
+
+    private static String nameOf(Class<?> type) {
+        String name = type.getSimpleName();
+        if (name.isEmpty()) {
+            // Anonymous rule classes.
+            return "custom";
+        }
+        if (name.length() > 4 && name.endsWith("Rule")) {
+            name = name.substring(0, name.length() - 4);
+        }
+        // Lower-case the leading capitals, keeping the last one of an acronym followed by a word (URLCheck -> urlCheck).
+        int upper = 0;
+        while (upper < name.length() && Character.isUpperCase(name.charAt(upper))) {
+            upper++;
+        }
+        if (upper > 1 && upper < name.length()) {
+            upper--;
+        }
+        return name.substring(0, upper).toLowerCase() + name.substring(upper);
+    }
+}
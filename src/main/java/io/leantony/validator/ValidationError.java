@@ -0,0 +1,137 @@
+package io.leantony.validator;
+
+import io.leantony.validator.lang.MessageRegistry;
+import io.leantony.validator.lang.ValidationMessageResolver;
+import io.leantony.validator.rules.DetailedRule;
+import io.leantony.validator.rules.ValidationContext;
+import io.leantony.validator.rules.ValidationRule;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One failed rule: which field failed, which rule it failed and with what parameter.
+ * <p>
+ * The human-readable message is only rendered when {@link #getMessage()} is first called, so callers
+ * that only need the field and rule name never pay for message formatting. The rendered message is kept
+ * together with the resolver that produced it and is rendered again when another resolver is active,
+ * e.g. inside {@link MessageRegistry#withLocale(Locale, java.util.function.Supplier)}.
+ * <p>
+ * The message is rendered from the value and data captured at validation time; changing the data afterwards
+ * changes the message. Because a rule may read any field to build its message, an error keeps a reference to
+ * the whole payload: a result with errors retains its payload for as long as the result is reachable, which
+ * matters when many results are kept, e.g. from a large {@code validateAll}.
+ */
+public final class ValidationError {
+    // The detail of a failed rule that describes nothing beyond the failure.
+    static final Object NO_DETAIL = new Object();
+
+    private final String field;
+    private final String rule;
+    private final String parameter;
+    private final ValidationRule validationRule;
+    private final Object detail;
+    private final Object value;
+    private final Map<String, Object> data;
+    private final ValidationContext context;
+    private volatile Rendered rendered;
+
+    ValidationError(String field, String rule, String parameter, ValidationRule validationRule, Object detail, Object value,
+                    Map<String, Object> data, ValidationContext context) {
+        this.field = field;
+        this.rule = rule;
+        this.parameter = parameter;
+        this.validationRule = validationRule;
+        this.detail = detail;
+        this.value = value;
+        this.data = data;
+        this.context = context;
+    }
+
+    /**
+     * Gets the concrete path of the field that failed, e.g. "items[2].sku".
+     *
+     * @return the field path
+     */
+    public String getField() {
+        return field;
+    }
+
+    /**
+     * Gets the name of the failed rule as written in the rule definitions, e.g. "min".
+     * For rules passed to a {@link Validator} as objects the name is derived from the class name.
+     *
+     * @return the rule name
+     */
+    public String getRule() {
+        return rule;
+    }
+
+    /**
+     * Gets the parameter of the failed rule, e.g. "8" for "min:8".
+     *
+     * @return the parameter, or null if the rule has none or was not created from the rule definitions
+     */
+    public String getParameter() {
+        return parameter;
+    }
+
+    /**
+     * Gets the value that failed the rule.
+     *
+     * @return the value
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the error message with the current resolver, rendering it on first use with that resolver.
+     *
+     * @return the error message
+     */
+    public String getMessage() {
+        ValidationMessageResolver resolver = MessageRegistry.getResolver();
+        Rendered last = rendered;
+        if (last == null || last.resolver() != resolver) {
+            last = new Rendered(resolver, render());
+            rendered = last;
+        }
+        return last.message();
+    }
+
+    /**
+     * Renders the error message in a locale, without changing the global resolver.
+     *
+     * @param locale the locale
+     * @return the error message
+     */
+    public String getMessage(Locale locale) {
+        return getMessage(MessageRegistry.resolverFor(locale));
+    }
+
+    /**
+     * Renders the error message with a resolver, without changing the global resolver.
+     *
+     * @param resolver the resolver
+     * @return the error message
+     */
+    public String getMessage(ValidationMessageResolver resolver) {
+        return MessageRegistry.withResolver(resolver, this::render);
+    }
+
+    private String render() {
+        if (detail != NO_DETAIL && validationRule instanceof DetailedRule detailed) {
+            return detailed.getErrorMessage(field, value, data, context, detail);
+        }
+        return validationRule.getErrorMessage(field, value, data, context);
+    }
+
+    @Override
+    public String toString() {
+        return field + ": " + rule + (parameter == null ? "" : ":" + parameter);
+    }
+
+    private record Rendered(ValidationMessageResolver resolver, String message) {
+    }
+}
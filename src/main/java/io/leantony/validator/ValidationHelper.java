@@ -1,17 +1,43 @@
 package io.leantony.validator;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * The type Validation helper.
  */
 public class ValidationHelper {
 
+    /**
+     * The default number of compiled schemas kept per helper.
+     */
+    public static final int DEFAULT_SCHEMA_CACHE_SIZE = 256;
+
+    // Several chunks per processor so that a slow chunk does not leave the other threads idle.
+    private static final int BATCH_CHUNKS_PER_PROCESSOR = 4;
+
     private final ObjectMapper objectMapper;
+    private final int schemaCacheSize;
+    private final PropertyAccessors propertyAccessors;
+    // Access-ordered, so the least recently used schema is dropped when the cache is full.
+    private final Map<Map<String, String>, CompiledSchema> schemaCache;
+    private volatile ValidationListener validationListener;
 
     /**
      * Instantiates a new Validation helper.
@@ -19,21 +45,233 @@ public class ValidationHelper {
      * @param mapper the mapper
      */
     public ValidationHelper(ObjectMapper mapper) {
+        this(mapper, DEFAULT_SCHEMA_CACHE_SIZE);
+    }
+
+    /**
+     * Instantiates a new Validation helper.
+     *
+     * @param mapper          the mapper
+     * @param schemaCacheSize the maximum number of compiled rule maps to keep; 0 disables caching
+     */
+    public ValidationHelper(ObjectMapper mapper, int schemaCacheSize) {
+        this(mapper, schemaCacheSize, DataAccessMode.CONVERT_VALUE);
+    }
+
+    /**
+     * Instantiates a new Validation helper.
+     *
+     * @param mapper          the mapper
+     * @param schemaCacheSize the maximum number of compiled rule maps to keep; 0 disables caching
+     * @param dataAccessMode  how DTOs are turned into the data the rules read from
+     */
+    public ValidationHelper(ObjectMapper mapper, int schemaCacheSize, DataAccessMode dataAccessMode) {
+        if (schemaCacheSize < 0) {
+            throw new IllegalArgumentException("Schema cache size cannot be negative");
+        }
         this.objectMapper = mapper;
+        this.schemaCacheSize = schemaCacheSize;
+        this.schemaCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Map<String, String>, CompiledSchema> eldest) {
+                return size() > schemaCacheSize;
+            }
+        });
+        this.propertyAccessors = dataAccessMode == DataAccessMode.PROPERTY_ACCESSORS ? new PropertyAccessors(mapper) : null;
     }
 
     /**
-     * Converts the given DTO to a Map using Jackson and builds a Validator with the provided rules.
+     * Returns the compiled schema for the given rule definitions, compiling and caching it on first use.
+     * Rule maps are compared by content, so a static rule map is parsed only once per helper.
+     * Once the cache is full, the least recently used schema makes room for a new one.
+     * A cached schema is compiled again if {@link Validator#setMaxNestingDepth(int)} has changed since,
+     * so keys deeper than the current limit are rejected as they would be without the cache.
+     * The cache holds schemas without a listener; the current {@link #setValidationListener listener} is attached
+     * to the schema returned.
+     *
+     * @param rules a Map of field names to DSL rule strings (e.g., "email" -> "required|email")
+     * @return the compiled schema
+     */
+    public CompiledSchema compile(Map<String, String> rules) {
+        CompiledSchema schema = schemaCache.get(rules);
+        if (schema != null) {
+            if (schema.getMaxNestingDepth() == Validator.getMaxNestingDepth()) {
+                return observed(schema);
+            }
+            schemaCache.remove(rules, schema);
+        }
+        schema = ValidatorBuilder.compile(rules);
+        if (schemaCacheSize > 0) {
+            // Key on a copy so later changes to the caller's map cannot corrupt the cache.
+            CompiledSchema existing = schemaCache.putIfAbsent(Map.copyOf(rules), schema);
+            if (existing != null) {
+                return observed(existing);
+            }
+        }
+        return observed(schema);
+    }
+
+    private CompiledSchema observed(CompiledSchema schema) {
+        ValidationListener listener = validationListener;
+        return listener == null ? schema : schema.withListener(listener);
+    }
+
+    /**
+     * Removes every cached schema, e.g. after registering a replacement rule under an existing name.
+     */
+    public void clearSchemaCache() {
+        schemaCache.clear();
+    }
+
+    /**
+     * Sets the listener attached to the schemas this helper returns from rule maps. Every later call reports to
+     * the new listener, including those served from the cache; schemas compiled elsewhere are not affected.
+     *
+     * @param listener the listener, or null to remove it
+     */
+    public void setValidationListener(ValidationListener listener) {
+        this.validationListener = listener;
+    }
+
+    /**
+     * Converts the given DTO to a Map and builds a Validator with the provided rules.
      *
      * @param dto   the data transfer object to validate
      * @param rules a Map of field names to DSL rule strings (e.g., "email" -> "required|email")
      * @return a Validator instance that can then be used to call validate() and getErrors()
      */
     public Validator createValidator(Object dto, Map<String, String> rules) {
-        Map<String, Object> data = objectMapper.convertValue(dto, new TypeReference<>() {
-        });
         // build and return the Validator.
-        return ValidatorBuilder.make(data, rules);
+        return compile(rules).validator(toData(dto));
+    }
+
+    /**
+     * Converts the given DTO to a Map and validates it against a compiled schema.
+     *
+     * @param dto    the data transfer object to validate
+     * @param schema the compiled schema, e.g. from {@link #compile(Map)}
+     * @return the validation result
+     */
+    public ValidationResult validate(Object dto, CompiledSchema schema) {
+        return schema.validate(toData(dto));
+    }
+
+    /**
+     * Validates a JSON object read from the stream, without binding the payload first.
+     * Subtrees that no rule refers to are skipped; see {@link CompiledSchema#validate(JsonParser)}.
+     * Whether the stream is closed afterwards follows the mapper's {@link JsonParser.Feature#AUTO_CLOSE_SOURCE}.
+     *
+     * @param json   the JSON payload
+     * @param schema the compiled schema, e.g. from {@link #compile(Map)}
+     * @return the validation result
+     * @throws IOException if the JSON cannot be read
+     */
+    public ValidationResult validateJson(InputStream json, CompiledSchema schema) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return schema.validate(parser);
+        }
+    }
+
+    /**
+     * Validates a JSON object read from the stream, without binding the payload first.
+     *
+     * @param json  the JSON payload
+     * @param rules a Map of field names to DSL rule strings (e.g., "email" -> "required|email")
+     * @return the validation result
+     * @throws IOException if the JSON cannot be read
+     */
+    public ValidationResult validateJson(InputStream json, Map<String, String> rules) throws IOException {
+        return validateJson(json, compile(rules));
+    }
+
+    /**
+     * Validates every DTO against the same rules, compiling them once and spreading the records over
+     * the common ForkJoinPool.
+     *
+     * @param dtos  the data transfer objects to validate
+     * @param rules a Map of field names to DSL rule strings (e.g., "email" -> "required|email")
+     * @return one result per DTO, in input order
+     */
+    public List<ValidationResult> validateAll(List<?> dtos, Map<String, String> rules) {
+        return validateAll(dtos, compile(rules), null);
+    }
+
+    /**
+     * Validates every record against the same rules, compiling them once.
+     *
+     * @param dtos     the data transfer objects to validate
+     * @param rules    a Map of field names to DSL rule strings (e.g., "email" -> "required|email")
+     * @param executor the executor to validate on, or null for the common ForkJoinPool
+     * @return one result per DTO, in input order
+     */
+    public List<ValidationResult> validateAll(Iterable<?> dtos, Map<String, String> rules, Executor executor) {
+        List<?> list;
+        if (dtos instanceof List<?> given) {
+            list = given;
+        } else {
+            List<Object> copy = new ArrayList<>();
+            dtos.forEach(copy::add);
+            list = copy;
+        }
+        return validateAll(list, compile(rules), executor);
+    }
+
+    /**
+     * Validates every record of the stream against the same rules, compiling them once.
+     *
+     * @param dtos     the data transfer objects to validate
+     * @param rules    a Map of field names to DSL rule strings (e.g., "email" -> "required|email")
+     * @param executor the executor to validate on, or null for the common ForkJoinPool
+     * @return one result per DTO, in encounter order
+     */
+    public List<ValidationResult> validateAll(Stream<?> dtos, Map<String, String> rules, Executor executor) {
+        return validateAll(dtos.toList(), compile(rules), executor);
+    }
+
+    /**
+     * Validates every DTO against a compiled schema.
+     * The records are split into contiguous chunks, a few per available processor, and each chunk is
+     * validated as one task; a schema is immutable, so all tasks share it.
+     * Each result with errors keeps its record's data for rendering messages (see {@link ValidationError}),
+     * so for very large batches read the results and let them go rather than holding on to the whole list.
+     *
+     * @param dtos     the data transfer objects to validate
+     * @param schema   the compiled schema, e.g. from {@link #compile(Map)}
+     * @param executor the executor to validate on, or null for the common ForkJoinPool
+     * @return one result per DTO, in input order
+     * @throws RuntimeException or {@link Error} as thrown by a rule or by the conversion of a record, on either path
+     */
+    public List<ValidationResult> validateAll(List<?> dtos, CompiledSchema schema, Executor executor) {
+        ValidationResult[] results = new ValidationResult[dtos.size()];
+        if (executor == null) {
+            IntStream.range(0, results.length).parallel().forEach(i -> results[i] = validate(dtos.get(i), schema));
+        } else {
+            int chunks = Math.min(results.length, Runtime.getRuntime().availableProcessors() * BATCH_CHUNKS_PER_PROCESSOR);
+            int chunkSize = chunks == 0 ? 0 : (results.length + chunks - 1) / chunks;
+            List<CompletableFuture<Void>> tasks = new ArrayList<>(chunks);
+            for (int start = 0; start < results.length; start += chunkSize) {
+                int from = start;
+                int to = Math.min(start + chunkSize, results.length);
+                tasks.add(CompletableFuture.runAsync(() -> {
+                    for (int i = from; i < to; i++) {
+                        results[i] = validate(dtos.get(i), schema);
+                    }
+                }, executor));
+            }
+            try {
+                CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+            } catch (CompletionException e) {
+                // Fail like the parallel stream above: with what the rule threw, not a wrapper.
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return Collections.unmodifiableList(Arrays.asList(results));
     }
 
     /**
@@ -44,9 +282,19 @@ public class ValidationHelper {
      * @return the list
      */
     public List<String> validate(Object dto, Map<String, String> rules) {
-        var validator = createValidator(dto, rules);
-        validator.validate();
-        return validator.getErrors();
+        return validate(dto, compile(rules)).getErrors();
+    }
+
+    /**
+     * Validate dto and render the messages in a locale.
+     *
+     * @param dto    the dto
+     * @param rules  the rules
+     * @param locale the locale of the messages
+     * @return the list
+     */
+    public List<String> validate(Object dto, Map<String, String> rules, Locale locale) {
+        return validate(dto, compile(rules)).getErrors(locale);
     }
 
     /**
@@ -57,8 +305,7 @@ public class ValidationHelper {
      * @return the boolean
      */
     public Boolean isValid(Object dto, Map<String, String> rules) {
-        var validator = createValidator(dto, rules);
-        return validator.validate();
+        return validate(dto, compile(rules)).isValid();
     }
 
     /**
@@ -69,8 +316,14 @@ public class ValidationHelper {
      * @return the list
      */
     public List<String> validate(Map<String, Object> dto, Map<String, String> rules) {
-        var validator = ValidatorBuilder.make(dto, rules);
-        validator.validate();
-        return validator.getErrors();
+        return compile(rules).validate(dto).getErrors();
+    }
+
+    private Map<String, Object> toData(Object dto) {
+        if (propertyAccessors != null) {
+            return propertyAccessors.asMap(dto);
+        }
+        return objectMapper.convertValue(dto, new TypeReference<>() {
+        });
     }
 }
@@ -0,0 +1,43 @@
+package io.leantony.validator;
+
+import java.util.Map;
+
+/**
+ * Observes the work done by a {@link CompiledSchema}, e.g. to record metrics per field and rule.
+ * <p>
+ * Attach a listener with {@link CompiledSchema#withListener(ValidationListener)} or
+ * {@link ValidationHelper#setValidationListener(ValidationListener)}. Schemas without a listener do not
+ * read the clock at all. A listener is called on the validating thread and may be called by several
+ * threads at once, so implementations must be thread-safe and should return quickly.
+ */
+public interface ValidationListener {
+
+    /**
+     * Called before a payload is validated.
+     *
+     * @param data the payload
+     */
+    default void validationStarted(Map<String, Object> data) {
+    }
+
+    /**
+     * Called after each rule has been evaluated against a value.
+     *
+     * @param field        the rule key, e.g. "items.*.sku"; wildcard keys are reported once per value they reach,
+     *                     under the key rather than the concrete path so that the number of distinct names stays bounded
+     * @param rule         the rule name, e.g. "min"
+     * @param passed       whether the value passed the rule
+     * @param elapsedNanos the time spent in the rule
+     */
+    default void ruleEvaluated(String field, String rule, boolean passed, long elapsedNanos) {
+    }
+
+    /**
+     * Called after a payload has been validated.
+     *
+     * @param result       the result
+     * @param elapsedNanos the time spent validating the payload
+     */
+    default void validationFinished(ValidationResult result, long elapsedNanos) {
+    }
+}
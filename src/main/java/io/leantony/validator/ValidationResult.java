@@ -0,0 +1,183 @@
+package io.leantony.validator;
+
+import io.leantony.validator.lang.MessageRegistry;
+import io.leantony.validator.lang.ValidationMessageResolver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The outcome of validating one payload against a {@link CompiledSchema}.
+ * <p>
+ * The errors are kept as {@link ValidationError} entries; messages are only rendered when asked for,
+ * e.g. through {@link #getErrors()} or {@link #first(String)}. Like Laravel's MessageBag, the entries
+ * can also be read per field. The errors keep a reference to the validated payload until their messages
+ * are no longer needed; see {@link ValidationError}.
+ */
+public final class ValidationResult {
+    private final List<ValidationError> entries;
+    private volatile RenderedMessages messages;
+    private volatile Map<String, List<ValidationError>> byField;
+
+    /**
+     * Instantiates a new Validation result.
+     *
+     * @param entries the errors, in the order they were produced
+     */
+    ValidationResult(List<ValidationError> entries) {
+        this.entries = List.copyOf(entries);
+    }
+
+    /**
+     * Whether the payload passed every rule.
+     *
+     * @return true if there are no errors
+     */
+    public boolean isValid() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Gets the number of failed rules.
+     *
+     * @return the error count
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the error messages with the current resolver, rendering them on first use with that resolver.
+     *
+     * @return an unmodifiable list of error messages
+     */
+    public List<String> getErrors() {
+        ValidationMessageResolver resolver = MessageRegistry.getResolver();
+        RenderedMessages rendered = messages;
+        if (rendered == null || rendered.resolver() != resolver) {
+            List<String> list = new ArrayList<>(entries.size());
+            for (ValidationError entry : entries) {
+                list.add(entry.getMessage());
+            }
+            rendered = new RenderedMessages(resolver, Collections.unmodifiableList(list));
+            messages = rendered;
+        }
+        return rendered.messages();
+    }
+
+    /**
+     * Renders the error messages in a locale. Unlike {@link #getErrors()} the result is not cached, and the
+     * global resolver is left unchanged, so results can be rendered in different languages concurrently.
+     *
+     * @param locale the locale
+     * @return the error messages
+     */
+    public List<String> getErrors(Locale locale) {
+        return getErrors(MessageRegistry.resolverFor(locale));
+    }
+
+    /**
+     * Renders the error messages with a resolver.
+     *
+     * @param resolver the resolver
+     * @return the error messages
+     * @see #getErrors(Locale)
+     */
+    public List<String> getErrors(ValidationMessageResolver resolver) {
+        List<String> list = new ArrayList<>(entries.size());
+        for (ValidationError entry : entries) {
+            list.add(entry.getMessage(resolver));
+        }
+        return list;
+    }
+
+    /**
+     * Gets the structured errors without rendering their messages.
+     *
+     * @return an unmodifiable list of errors, in the order they were produced
+     */
+    public List<ValidationError> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Gets the errors grouped by field path, in the order the fields first failed.
+     *
+     * @return an unmodifiable map from field path to its errors
+     */
+    public Map<String, List<ValidationError>> byField() {
+        Map<String, List<ValidationError>> grouped = byField;
+        if (grouped == null) {
+            Map<String, List<ValidationError>> map = new LinkedHashMap<>();
+            for (ValidationError entry : entries) {
+                map.computeIfAbsent(entry.getField(), field -> new ArrayList<>()).add(entry);
+            }
+            map.replaceAll((field, errors) -> Collections.unmodifiableList(errors));
+            grouped = Collections.unmodifiableMap(map);
+            byField = grouped;
+        }
+        return grouped;
+    }
+
+    /**
+     * Gets the paths of the fields that have errors.
+     *
+     * @return the field paths
+     */
+    public Set<String> fields() {
+        return byField().keySet();
+    }
+
+    /**
+     * Whether the field has errors.
+     *
+     * @param field the field path, e.g. "items[2].sku"
+     * @return true if the field failed a rule
+     */
+    public boolean has(String field) {
+        return byField().containsKey(field);
+    }
+
+    /**
+     * Gets the error messages of one field.
+     *
+     * @param field the field path
+     * @return the messages, empty if the field has no errors
+     */
+    public List<String> get(String field) {
+        List<ValidationError> errors = byField().getOrDefault(field, List.of());
+        List<String> rendered = new ArrayList<>(errors.size());
+        for (ValidationError error : errors) {
+            rendered.add(error.getMessage());
+        }
+        return rendered;
+    }
+
+    /**
+     * Gets the first error message of one field.
+     *
+     * @param field the field path
+     * @return the message, or null if the field has no errors
+     */
+    public String first(String field) {
+        List<ValidationError> errors = byField().get(field);
+        return errors == null ? null : errors.get(0).getMessage();
+    }
+
+    /**
+     * Gets the first error message.
+     *
+     * @return the message, or null if there are no errors
+     */
+    public String first() {
+        return entries.isEmpty() ? null : entries.get(0).getMessage();
+    }
+
+    private record RenderedMessages(ValidationMessageResolver resolver, List<String> messages) {
+    }
+}
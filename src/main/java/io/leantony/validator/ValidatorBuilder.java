@@ -16,21 +16,29 @@ public class ValidatorBuilder {
      * @return a Validator instance
      */
     public static Validator make(Map<String, Object> data, Map<String, String> ruleDefinitions) {
-        Map<String, List<ValidationRule>> rules = new HashMap<>();
+        return compile(ruleDefinitions).validator(data);
+    }
+
+    /**
+     * Parses the rule definitions into a reusable CompiledSchema.
+     *
+     * @param ruleDefinitions a Map from field names to DSL rule strings (e.g., "email" -> "required|email")
+     * @return the compiled schema
+     */
+    public static CompiledSchema compile(Map<String, String> ruleDefinitions) {
+        Map<String, List<ValidationRule>> rules = new LinkedHashMap<>();
+        Map<String, List<RuleSpec>> specs = new LinkedHashMap<>();
         for (Map.Entry<String, String> entry : ruleDefinitions.entrySet()) {
-            String field = entry.getKey();
-            String[] parts = field.split("\\.");
-            if (parts.length > Validator.getMaxNestingDepth()) {
-                throw new IllegalArgumentException("Rule '" + field + "' exceeds maximum allowed nesting depth (" + Validator.getMaxNestingDepth() + ")");
-            }
             String ruleStr = entry.getValue();
-            List<ValidationRule> ruleList = parseRules(ruleStr);
-            rules.put(field, ruleList);
+            List<RuleSpec> specList = new ArrayList<>();
+            List<ValidationRule> ruleList = parseRules(ruleStr, specList);
+            rules.put(entry.getKey(), ruleList);
+            specs.put(entry.getKey(), specList);
         }
-        return new Validator(data, rules);
+        return new CompiledSchema(rules, specs);
     }
     
-    private static List<ValidationRule> parseRules(String ruleStr) {
+    private static List<ValidationRule> parseRules(String ruleStr, List<RuleSpec> specs) {
         List<ValidationRule> rules = new ArrayList<>();
         List<String> tokens = tokenize(ruleStr, '|');
         for (String token : tokens) {
@@ -56,6 +64,7 @@ public class ValidatorBuilder {
             try {
                 ValidationRule rule = factory.create(parameter);
                 rules.add(rule);
+                specs.add(new RuleSpec(ruleName, parameter));
             } catch (Exception e) {
                 throw new IllegalArgumentException(String.format("Error creating rule for '%s' with parameter '%s'.", ruleName, parameter), e);
             }
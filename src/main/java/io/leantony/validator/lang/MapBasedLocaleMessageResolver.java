@@ -1,15 +1,21 @@
 package io.leantony.validator.lang;
 
-import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.ResourceBundle;
 
 /**
  * The type Map based locale message resolver.
+ * <p>
+ * Each key is looked up along the fallback chain of the locale, e.g. {@code sw_KE}, then {@code sw},
+ * then English, so a partial translation falls back per message rather than as a whole.
  */
 public class MapBasedLocaleMessageResolver implements ValidationMessageResolver {
     private final Map<Locale, Map<String, String>> messagesByLocale;
     private final Locale locale;
+    private final Locale[] candidates;
 
     /**
      * Instantiates a new Map based locale message resolver.
@@ -20,16 +26,40 @@ public class MapBasedLocaleMessageResolver implements ValidationMessageResolver
     public MapBasedLocaleMessageResolver(Map<Locale, Map<String, String>> messagesByLocale, Locale locale) {
         this.messagesByLocale = messagesByLocale;
         this.locale = locale;
+        this.candidates = fallbackChain(locale);
+    }
+
+    /**
+     * Gets the locale.
+     *
+     * @return the locale
+     */
+    public Locale getLocale() {
+        return locale;
     }
 
     @Override
     public String resolve(String key, Object... params) {
-        Map<String, String> messages = messagesByLocale.get(locale);
-        if (messages == null) {
-            // Fallback to English if the specified locale is not available.
-            messages = messagesByLocale.get(Locale.ENGLISH);
+        String template = null;
+        for (Locale candidate : candidates) {
+            Map<String, String> messages = messagesByLocale.get(candidate);
+            if (messages != null && (template = messages.get(key)) != null) {
+                break;
+            }
+        }
+        return MessageTemplate.format(template == null ? "{0} is invalid." : template, params);
+    }
+
+    /**
+     * The locales to try for a locale, most specific first and ending with English.
+     */
+    static Locale[] fallbackChain(Locale locale) {
+        List<Locale> chain = new ArrayList<>(ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT)
+                .getCandidateLocales("", locale));
+        chain.remove(Locale.ROOT);
+        if (!chain.contains(Locale.ENGLISH)) {
+            chain.add(Locale.ENGLISH);
         }
-        String template = messages.getOrDefault(key, "{0} is invalid.");
-        return MessageFormat.format(template, params);
+        return chain.toArray(new Locale[0]);
     }
 }
@@ -3,17 +3,30 @@ package io.leantony.validator.lang;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * The type Message registry.
+ * <p>
+ * Besides the global resolver, a resolver can be scoped to the current thread with
+ * {@link #withResolver(ValidationMessageResolver, Supplier)}, which lets one JVM render messages in
+ * several languages at once. Resolvers for a locale are cached, see {@link #resolverFor(Locale)}.
  */
 public final class MessageRegistry {
 
     // A map that holds locale-specific message maps.
-    private static final Map<Locale, Map<String, String>> messagesByLocale = new HashMap<>();
+    private static final Map<Locale, Map<String, String>> messagesByLocale = new ConcurrentHashMap<>();
+
+    // One map-based resolver per locale that has messages; they read messagesByLocale on every call, so overrides
+    // still apply. Requested locales without messages share the resolver of their fallback, which keeps this bounded.
+    private static final Map<Locale, ValidationMessageResolver> resolversByLocale = new ConcurrentHashMap<>();
+
+    // A resolver scoped to the current thread, taking precedence over the global one.
+    private static final ThreadLocal<ValidationMessageResolver> scopedResolver = new ThreadLocal<>();
 
     // The current global ValidationMessageResolver.
-    private static ValidationMessageResolver resolver;
+    private static volatile ValidationMessageResolver resolver;
 
     static {
         // Default messages for English.
@@ -36,7 +49,11 @@ public final class MessageRegistry {
         englishMessages.put("alpha", "{0} must contain only alphabetic characters.");
         englishMessages.put("numeric", "{0} must be numeric.");
         englishMessages.put("numeric.exact", "{0} must be numeric and contain exactly {1} digits.");
+        englishMessages.put("digitsBetween", "{0} must be between {1} and {2} digits.");
+        englishMessages.put("decimal", "{0} must have {1} decimal places.");
+        englishMessages.put("decimal.range", "{0} must have between {1} and {2} decimal places.");
         englishMessages.put("alphanumeric", "{0} must contain only letters and digits.");
+        englishMessages.put("alphaDash", "{0} must contain only letters, digits, dashes and underscores.");
         englishMessages.put("regex", "{0} does not match the required format.");
         englishMessages.put("afterOrEqual.numeric", "{0} must be greater than or equal to {1}.");
         englishMessages.put("afterOrEqual.date", "{0} must be after or equal to {1} (using format {2}).");
@@ -62,22 +79,94 @@ public final class MessageRegistry {
         englishMessages.put("phoneno.default", "{0} must be a valid phone number.");
 
         // Put the default maps into our messagesByLocale.
-        messagesByLocale.put(Locale.ENGLISH, englishMessages);
+        messagesByLocale.put(Locale.ENGLISH, new ConcurrentHashMap<>(englishMessages));
 
         // Set the default resolver using English as the active locale.
-        resolver = new MapBasedLocaleMessageResolver(messagesByLocale, Locale.ENGLISH);
+        resolver = resolverFor(Locale.ENGLISH);
     }
 
     private MessageRegistry() {
     }
 
     /**
-     * Returns the current global ValidationMessageResolver.
+     * Returns the resolver scoped to the current thread, or the global ValidationMessageResolver if there is none.
      *
      * @return the current resolver
      */
     public static ValidationMessageResolver getResolver() {
-        return resolver;
+        ValidationMessageResolver scoped = scopedResolver.get();
+        return scoped != null ? scoped : resolver;
+    }
+
+    /**
+     * Returns the cached map-based resolver for a locale. Messages missing for the locale are looked up
+     * along its fallback chain, e.g. {@code sw_KE}, {@code sw}, then English.
+     * <p>
+     * Resolvers are cached per locale that has messages: a locale without any, such as {@code en_ZZ}, gets the
+     * resolver of the first locale in its fallback chain that has some, here English. Messages registered later
+     * for a more specific locale are used by the resolvers returned after they were registered.
+     *
+     * @param locale the locale
+     * @return the resolver
+     */
+    public static ValidationMessageResolver resolverFor(Locale locale) {
+        Locale bundle = bundleLocale(locale);
+        ValidationMessageResolver cached = resolversByLocale.get(bundle);
+        if (cached == null) {
+            cached = resolversByLocale.computeIfAbsent(bundle, l -> new MapBasedLocaleMessageResolver(messagesByLocale, l));
+        }
+        return cached;
+    }
+
+    /**
+     * The first locale in the fallback chain of a locale that has messages, or English if none has.
+     */
+    private static Locale bundleLocale(Locale locale) {
+        if (messagesByLocale.containsKey(locale)) {
+            return locale;
+        }
+        for (Locale candidate : MapBasedLocaleMessageResolver.fallbackChain(locale)) {
+            if (messagesByLocale.containsKey(candidate)) {
+                return candidate;
+            }
+        }
+        return Locale.ENGLISH;
+    }
+
+    /**
+     * Runs an action with a resolver scoped to the current thread; the global resolver is left unchanged.
+     * Messages rendered by the action, e.g. through {@code ValidationResult.getErrors()}, use this resolver.
+     *
+     * @param <T>         the result type
+     * @param newResolver the resolver to use
+     * @param action      the action
+     * @return the result of the action
+     */
+    public static <T> T withResolver(ValidationMessageResolver newResolver, Supplier<T> action) {
+        ValidationMessageResolver previous = scopedResolver.get();
+        scopedResolver.set(newResolver);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                scopedResolver.remove();
+            } else {
+                scopedResolver.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Runs an action with the resolver of a locale scoped to the current thread.
+     *
+     * @param <T>    the result type
+     * @param locale the locale
+     * @param action the action
+     * @return the result of the action
+     * @see #withResolver(ValidationMessageResolver, Supplier)
+     */
+    public static <T> T withLocale(Locale locale, Supplier<T> action) {
+        return withResolver(resolverFor(locale), action);
     }
 
     /**
@@ -97,16 +186,17 @@ public final class MessageRegistry {
      * @param newMessage the new message template
      */
     public static void overrideMessage(Locale locale, String key, String newMessage) {
-        Map<String, String> localeMessages = messagesByLocale.computeIfAbsent(locale, k -> new HashMap<>());
+        Map<String, String> localeMessages = messagesByLocale.computeIfAbsent(locale, k -> new ConcurrentHashMap<>());
         localeMessages.put(key, newMessage);
     }
 
     /**
-     * Switches the active locale for the map-based resolver.
+     * Switches the active locale for the map-based resolver. This changes the global resolver for every
+     * thread; use {@link #withLocale(Locale, Supplier)} or a per-call locale to serve several languages.
      *
      * @param newLocale the new locale to use
      */
     public static void switchLocale(Locale newLocale) {
-        resolver = new MapBasedLocaleMessageResolver(messagesByLocale, newLocale);
+        resolver = resolverFor(newLocale);
     }
 }
\ No newline at end of file
@@ -0,0 +1,170 @@
+package io.leantony.validator.lang;
+
+import java.text.DateFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A message template parsed once and rendered by concatenating its segments.
+ * <p>
+ * Templates made of literal text and plain {@code {n}} placeholders, which covers every built-in message,
+ * are rendered without {@link MessageFormat}; arguments are formatted the way MessageFormat formats them
+ * (numbers and dates with the default format locale). Templates using quotes or format types such as
+ * {@code {0,number}} are passed to MessageFormat unchanged. Instances are immutable and cached per
+ * template string, so they can be shared between threads.
+ */
+public final class MessageTemplate {
+    // Templates come from message files and overrides; the cap only guards against templates built per call.
+    private static final int MAX_CACHED_TEMPLATES = 4096;
+    private static final Map<String, MessageTemplate> CACHE = new ConcurrentHashMap<>();
+    private static final Map<Locale, Boolean> ASCII_DIGITS = new ConcurrentHashMap<>();
+
+    private final String pattern;
+    // Literal text at even positions, argument indexes (as Integer) at odd positions; null when MessageFormat is needed.
+    private final Object[] segments;
+    private final int literalLength;
+
+    private MessageTemplate(String pattern) {
+        this.pattern = pattern;
+        this.segments = parse(pattern);
+        int length = 0;
+        if (segments != null) {
+            for (int i = 0; i < segments.length; i += 2) {
+                length += ((String) segments[i]).length();
+            }
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Returns the parsed template.
+     *
+     * @param pattern the template, e.g. "{0} must be at least {1}."
+     * @return the template
+     */
+    public static MessageTemplate of(String pattern) {
+        MessageTemplate template = CACHE.get(pattern);
+        if (template == null) {
+            template = new MessageTemplate(pattern);
+            if (CACHE.size() < MAX_CACHED_TEMPLATES) {
+                CACHE.putIfAbsent(pattern, template);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Formats a template; equivalent to {@link MessageFormat#format(String, Object...)}.
+     *
+     * @param pattern the template
+     * @param args    the arguments
+     * @return the message
+     */
+    public static String format(String pattern, Object... args) {
+        return of(pattern).format(args);
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param args the arguments
+     * @return the message
+     */
+    public String format(Object... args) {
+        if (segments == null) {
+            return MessageFormat.format(pattern, args);
+        }
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        StringBuilder message = new StringBuilder(literalLength + 16 * (segments.length / 2));
+        for (int i = 0; i < segments.length; i++) {
+            if ((i & 1) == 0) {
+                message.append((String) segments[i]);
+            } else {
+                int index = (Integer) segments[i];
+                if (args == null || index >= args.length) {
+                    message.append('{').append(index).append('}');
+                } else {
+                    appendArgument(message, args[index], locale);
+                }
+            }
+        }
+        return message.toString();
+    }
+
+    private static void appendArgument(StringBuilder message, Object arg, Locale locale) {
+        if (arg == null) {
+            message.append("null");
+        } else if (arg instanceof String text) {
+            message.append(text);
+        } else if (arg instanceof Number number) {
+            if (isSmallInteger(number) && usesAsciiDigits(locale)) {
+                // Below 1000 there is no grouping separator, so the plain digits are what NumberFormat produces.
+                message.append(number.longValue());
+            } else {
+                message.append(NumberFormat.getInstance(locale).format(number));
+            }
+        } else if (arg instanceof Date date) {
+            message.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(date));
+        } else {
+            message.append(arg);
+        }
+    }
+
+    private static boolean isSmallInteger(Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            long value = number.longValue();
+            return value >= 0 && value < 1000;
+        }
+        return false;
+    }
+
+    private static boolean usesAsciiDigits(Locale locale) {
+        return ASCII_DIGITS.computeIfAbsent(locale, l -> DecimalFormatSymbols.getInstance(l).getZeroDigit() == '0');
+    }
+
+    /**
+     * Splits a template into literal and placeholder segments, or returns null if it uses MessageFormat
+     * features beyond plain {@code {n}} placeholders.
+     */
+    private static Object[] parse(String pattern) {
+        List<Object> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'' || c == '}') {
+                return null;
+            }
+            if (c != '{') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            int close = pattern.indexOf('}', i + 1);
+            if (close == -1 || close == i + 1 || close - i > 10) {
+                return null;
+            }
+            int index = 0;
+            for (int j = i + 1; j < close; j++) {
+                char digit = pattern.charAt(j);
+                if (digit < '0' || digit > '9') {
+                    return null;
+                }
+                index = index * 10 + (digit - '0');
+            }
+            segments.add(literal.toString());
+            segments.add(index);
+            literal.setLength(0);
+            i = close + 1;
+        }
+        segments.add(literal.toString());
+        return segments.toArray();
+    }
+}
@@ -1,6 +1,5 @@
 package io.leantony.validator.lang;
 
-import java.text.MessageFormat;
 import java.util.Locale;
 import java.util.ResourceBundle;
 
@@ -23,6 +22,6 @@ public class ResourceBundleMessageResolver implements ValidationMessageResolver
     @Override
     public String resolve(String key, Object... params) {
         String template = bundle.getString(key);
-        return MessageFormat.format(template, params);
+        return MessageTemplate.format(template, params);
     }
 }
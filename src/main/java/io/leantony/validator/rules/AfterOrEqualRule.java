@@ -2,19 +2,18 @@ package io.leantony.validator.rules;
 
 import io.leantony.validator.lang.MessageRegistry;
 
-import java.math.BigDecimal;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 /**
  * The type After or equal rule.
  */
-public class AfterOrEqualRule extends BaseRule {
+public class AfterOrEqualRule extends BaseRule implements CrossFieldRule, DetailedRule {
     private final String otherField;
+    private final FieldReference other;
     private final String dateFormat;
+    private final DatePattern datePattern;
 
     /**
      * Instantiates a new After or equal rule.
@@ -22,7 +21,7 @@ public class AfterOrEqualRule extends BaseRule {
      * @param otherField the other field
      */
     public AfterOrEqualRule(String otherField) {
-        this(otherField, "yyyy-MM-dd");
+        this(otherField, DatePattern.DEFAULT);
     }
 
     /**
@@ -32,95 +31,63 @@ public class AfterOrEqualRule extends BaseRule {
      * @param dateFormat the date format
      */
     public AfterOrEqualRule(String otherField, String dateFormat) {
-        validateDateFormat(dateFormat);
+        this.datePattern = parseDateFormat(dateFormat);
         this.otherField = Objects.requireNonNull(otherField, "Comparison field cannot be null");
+        this.other = FieldReference.of(otherField);
         this.dateFormat = dateFormat;
     }
 
-    @SuppressWarnings("DuplicatedCode")
     @Override
     public boolean validate(String field, Object value, Map<String, Object> data) {
-        if (value == null || data == null) return false;
-
-        Object otherValue = data.get(otherField);
-        if (otherValue == null) return false;
-
-        // First try numeric comparison
-        if (areBothNumbers(value, otherValue)) {
-            return compareNumbers(value, otherValue);
-        }
-
-        // Then try date comparison
-        if (areBothDates(value, otherValue)) {
-            return compareDates(value, otherValue);
-        }
-
-        // Type mismatch
-        return false;
+        return validate(field, value, data, ValidationContext.ROOT);
     }
 
     @Override
-    public String getErrorMessage(String field, Object value, Map<String, Object> data) {
-        Object otherValue = data != null ? data.get(otherField) : null;
-
-        if (areBothNumbers(value, otherValue)) {
-            // Look up a message template for numeric comparison.
-            return MessageRegistry.getResolver()
-                    .resolve("afterOrEqual.numeric", field, otherField);
-        } else {
-            // Look up a message template for date comparisons.
-            return MessageRegistry.getResolver()
-                    .resolve("afterOrEqual.date", field, otherField, dateFormat);
-        }
+    public boolean validate(String field, Object value, Map<String, Object> data, ValidationContext context) {
+        return check(field, value, data, context) == null;
     }
 
-    // The following methods are identical to BeforeOrEqualRule except for comparison direction
-
-    private boolean areBothNumbers(Object a, Object b) {
-        try {
-            new BigDecimal(a.toString());
-            new BigDecimal(b.toString());
-            return true;
-        } catch (NumberFormatException | NullPointerException e) {
-            return false;
+    @Override
+    public Object check(String field, Object value, Map<String, Object> data, ValidationContext context) {
+        if (value == null || data == null) return ValueComparison.Kind.DATES;
+
+        // Numbers first, then dates; anything else is a type mismatch.
+        Object otherValue = other.resolve(data, context);
+        int order = ValueComparison.compareNumbers(value, otherValue);
+        if (order != ValueComparison.INCOMPARABLE) {
+            return order >= 0 ? null : ValueComparison.Kind.NUMBERS;
         }
+        order = ValueComparison.compareDates(value, otherValue, datePattern);
+        return order != ValueComparison.INCOMPARABLE && order >= 0 ? null : ValueComparison.Kind.DATES;
     }
 
-    private boolean areBothDates(Object a, Object b) {
-        try {
-            return parseDate(a) != null && parseDate(b) != null;
-        } catch (ParseException e) {
-            return false;
-        }
+    @Override
+    public List<FieldReference> getReferences() {
+        return List.of(other);
     }
 
-    // Changed comparison operator
-    private boolean compareNumbers(Object a, Object b) {
-        BigDecimal num1 = new BigDecimal(a.toString());
-        BigDecimal num2 = new BigDecimal(b.toString());
-        return num1.compareTo(num2) >= 0; // Changed from <= to >=
+    @Override
+    public String getErrorMessage(String field, Object value, Map<String, Object> data) {
+        return getErrorMessage(field, value, data, ValidationContext.ROOT);
     }
 
-    // Changed date comparison logic
-    private boolean compareDates(Object a, Object b) {
-        try {
-            Date date1 = parseDate(a);
-            Date date2 = parseDate(b);
-            return !date1.before(date2); // Changed from !after() to !before()
-        } catch (ParseException e) {
-            return false;
-        }
+    @Override
+    public String getErrorMessage(String field, Object value, Map<String, Object> data, ValidationContext context) {
+        boolean numbers = data != null && ValueComparison.areNumbers(value, other.resolve(data, context));
+        return getErrorMessage(field, value, data, context, numbers ? ValueComparison.Kind.NUMBERS : ValueComparison.Kind.DATES);
     }
 
-    private Date parseDate(Object value) throws ParseException {
-        SimpleDateFormat sdf = new SimpleDateFormat(dateFormat);
-        sdf.setLenient(false);
-        return sdf.parse(value.toString());
+    @Override
+    public String getErrorMessage(String field, Object value, Map<String, Object> data, ValidationContext context, Object detail) {
+        if (detail == ValueComparison.Kind.NUMBERS) {
+            return MessageRegistry.getResolver().resolve("afterOrEqual.numeric", field, otherField);
+        }
+        return MessageRegistry.getResolver().resolve("afterOrEqual.date", field, otherField, dateFormat);
     }
 
-    private void validateDateFormat(String format) {
+    private static DatePattern parseDateFormat(String format) {
         try {
-            new SimpleDateFormat(format);
+            return DatePattern.of(format);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Invalid date format: " + format);
         }
@@ -0,0 +1,42 @@
+package io.leantony.validator.rules;
+
+import io.leantony.validator.lang.MessageRegistry;
+
+import java.util.Map;
+
+/**
+ * The type Alpha dash rule, like Laravel's alpha_dash.
+ * <p>
+ * Accepts letters, digits, dashes and underscores. By default only ASCII letters and digits are accepted;
+ * with the {@code unicode} mode ({@code alphaDash:unicode}) letters and digits of any script are accepted too.
+ */
+public class AlphaDashRule extends BaseRule {
+    private final CharClass characters;
+
+    /**
+     * Instantiates a new Alpha dash rule accepting ASCII letters and digits.
+     */
+    public AlphaDashRule() {
+        this(null);
+    }
+
+    /**
+     * Instantiates a new Alpha dash rule.
+     *
+     * @param mode "unicode" to accept any script; anything else, including null, means ASCII
+     */
+    public AlphaDashRule(String mode) {
+        this.characters = CharClass.ALPHA_DASH.forMode(mode);
+    }
+
+    @Override
+    public boolean validate(String field, Object value, Map<String, Object> data) {
+        if (value == null) return false;
+        return characters.matchesTrimmed(value.toString());
+    }
+
+    @Override
+    public String getErrorMessage(String field, Object value, Map<String, Object> data) {
+        return MessageRegistry.getResolver().resolve("alphaDash", field);
+    }
+}
@@ -6,16 +6,34 @@ import java.util.Map;
 
 /**
  * The type Alpha numeric rule.
+ * <p>
+ * By default only ASCII letters and digits are accepted; with the {@code unicode} mode
+ * ({@code alphanumeric:unicode}) letters and digits of any script are accepted too.
  */
 public class AlphaNumericRule extends BaseRule {
+    private final CharClass characters;
+
+    /**
+     * Instantiates a new Alpha numeric rule accepting ASCII letters and digits.
+     */
+    public AlphaNumericRule() {
+        this(null);
+    }
+
+    /**
+     * Instantiates a new Alpha numeric rule.
+     *
+     * @param mode "unicode" to accept any script; anything else, including null, means ASCII
+     */
+    public AlphaNumericRule(String mode) {
+        this.characters = CharClass.ALPHA_NUM.forMode(mode);
+    }
 
     @Override
     public boolean validate(String field, Object value, Map<String, Object> data) {
         if (value == null) return false;
-        String str = value.toString().trim();
-        if (str.isEmpty()) return false;
-        // Validate that the string contains only letters and digits.
-        return str.matches("^[A-Za-z0-9]+$");
+        // Validate that the trimmed string is non-empty and contains only letters and digits.
+        return characters.matchesTrimmed(value.toString());
     }
 
     @Override
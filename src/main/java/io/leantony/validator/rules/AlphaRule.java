@@ -6,14 +6,35 @@ import java.util.Map;
 
 /**
  * The type Alpha rule.
+ * <p>
+ * By default only ASCII letters are accepted; with the {@code unicode} mode ({@code alpha:unicode})
+ * letters of any script, including combining marks, are accepted too.
  */
 public class AlphaRule extends BaseRule {
+    private final CharClass characters;
+
+    /**
+     * Instantiates a new Alpha rule accepting ASCII letters.
+     */
+    public AlphaRule() {
+        this(null);
+    }
+
+    /**
+     * Instantiates a new Alpha rule.
+     *
+     * @param mode "unicode" to accept any script; anything else, including null, means ASCII
+     */
+    public AlphaRule(String mode) {
+        this.characters = CharClass.ALPHA.forMode(mode);
+    }
+
     @Override
     public boolean validate(String field, Object value, Map<String, Object> data) {
         if (!(value instanceof String)) {
             return false;
         }
-        return ((String) value).matches("^[a-zA-Z]+$");
+        return characters.matchesAll((String) value);
     }
 
     @Override
@@ -0,0 +1,20 @@
+package io.leantony.validator.rules;
+
+import java.util.Map;
+
+/**
+ * The type Bail rule.
+ * <p>
+ * Marks a field so that its remaining rules are skipped as soon as one of them fails.
+ */
+public class BailRule extends BaseRule {
+    @Override
+    public boolean validate(String field, Object value, Map<String, Object> data) {
+        return true;
+    }
+
+    @Override
+    public String getErrorMessage(String field, Object value, Map<String, Object> data) {
+        return "";
+    }
+}
@@ -7,7 +7,7 @@ import java.util.Map;
 /**
  * The type Boolean rule.
  */
-public class BooleanRule extends BaseRule {
+public class BooleanRule extends BaseRule implements PrerequisiteRule {
     @Override
     public boolean validate(String field, Object value, Map<String, Object> data) {
         if (value == null) {
@@ -0,0 +1,110 @@
+package io.leantony.validator.rules;
+
+/**
+ * A set of characters that a whole value must be made of, checked in a single pass without allocating.
+ * <p>
+ * ASCII characters are looked up in a table built once per class. In the Unicode variants other characters
+ * are accepted if they are letters or combining marks (and, where digits are allowed, digits), which matches
+ * {@code \p{L}\p{M}} and {@code \p{N}} in Laravel's alpha rules; supplementary characters are read as code points.
+ */
+final class CharClass {
+    /** Letters. */
+    static final CharClass ALPHA = new CharClass(false, false, false);
+    /** Letters and digits. */
+    static final CharClass ALPHA_NUM = new CharClass(true, false, false);
+    /** Letters, digits, dashes and underscores. */
+    static final CharClass ALPHA_DASH = new CharClass(true, true, false);
+
+    private final boolean[] ascii = new boolean[128];
+    private final boolean digits;
+    private final boolean unicode;
+    private final CharClass unicodeVariant;
+
+    private CharClass(boolean digits, boolean dashes, boolean unicode) {
+        for (char c = 'a'; c <= 'z'; c++) ascii[c] = true;
+        for (char c = 'A'; c <= 'Z'; c++) ascii[c] = true;
+        if (digits) {
+            for (char c = '0'; c <= '9'; c++) ascii[c] = true;
+        }
+        if (dashes) {
+            ascii['-'] = true;
+            ascii['_'] = true;
+        }
+        this.digits = digits;
+        this.unicode = unicode;
+        this.unicodeVariant = unicode ? this : new CharClass(digits, dashes, true);
+    }
+
+    /**
+     * Returns the variant that also accepts non-ASCII letters (and digits) for "unicode", and this class otherwise.
+     * Other parameters are ignored, as they were before modes existed, so rule maps such as {@code alpha:foo}
+     * keep compiling and check ASCII.
+     *
+     * @param mode the rule parameter, e.g. "unicode"; may be null
+     * @return the character class
+     */
+    CharClass forMode(String mode) {
+        return mode != null && mode.trim().equalsIgnoreCase("unicode") ? unicodeVariant : this;
+    }
+
+    /**
+     * Whether the text is non-empty and made only of characters in this class.
+     *
+     * @param text the text
+     * @return true if every character matches
+     */
+    boolean matchesAll(CharSequence text) {
+        return matches(text, 0, text.length());
+    }
+
+    /**
+     * Like {@link #matchesAll(CharSequence)}, after skipping the characters {@link String#trim()} removes.
+     *
+     * @param text the text
+     * @return true if the trimmed text is non-empty and every character matches
+     */
+    boolean matchesTrimmed(CharSequence text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') start++;
+        while (end > start && text.charAt(end - 1) <= ' ') end--;
+        return matches(text, start, end);
+    }
+
+    private boolean matches(CharSequence text, int start, int end) {
+        if (start >= end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < 128) {
+                if (!ascii[c]) return false;
+            } else if (!unicode) {
+                return false;
+            } else {
+                int codePoint = c;
+                if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    codePoint = Character.toCodePoint(c, text.charAt(++i));
+                }
+                if (!isUnicodeMember(codePoint)) return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isUnicodeMember(int codePoint) {
+        switch (Character.getType(codePoint)) {
+            case Character.UPPERCASE_LETTER, Character.LOWERCASE_LETTER, Character.TITLECASE_LETTER,
+                 Character.MODIFIER_LETTER, Character.OTHER_LETTER,
+                 Character.NON_SPACING_MARK, Character.ENCLOSING_MARK, Character.COMBINING_SPACING_MARK -> {
+                return true;
+            }
+            case Character.DECIMAL_DIGIT_NUMBER, Character.LETTER_NUMBER, Character.OTHER_NUMBER -> {
+                return digits;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package io.leantony.validator.rules;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Set;
+
+/**
+ * An immutable table of ISO 3166-1 country codes, built once from the JDK's locale data.
+ * <p>
+ * Lookups in both directions (alpha-2 to alpha-3 and back) are single map reads. Codes are
+ * expected in upper case. The JDK does not ship the numeric codes, so they are not included.
+ */
+public final class CountryCodes {
+    private static final Map<String, String> ALPHA2_TO_ALPHA3;
+    private static final Map<String, String> ALPHA3_TO_ALPHA2;
+    private static final Set<String> ALL_CODES;
+
+    static {
+        Map<String, String> alpha2ToAlpha3 = new HashMap<>();
+        Map<String, String> alpha3ToAlpha2 = new HashMap<>();
+        Set<String> allCodes = new LinkedHashSet<>();
+        for (String iso2 : Locale.getISOCountries()) {
+            String alpha2 = iso2.toUpperCase(Locale.ROOT);
+            allCodes.add(alpha2);
+            try {
+                String alpha3 = new Locale("", iso2).getISO3Country().toUpperCase(Locale.ROOT);
+                if (!alpha3.isEmpty()) {
+                    alpha2ToAlpha3.put(alpha2, alpha3);
+                    alpha3ToAlpha2.put(alpha3, alpha2);
+                    allCodes.add(alpha3);
+                }
+            } catch (MissingResourceException e) {
+                // Ignore locales without an ISO3 code.
+            }
+        }
+        ALPHA2_TO_ALPHA3 = Map.copyOf(alpha2ToAlpha3);
+        ALPHA3_TO_ALPHA2 = Map.copyOf(alpha3ToAlpha2);
+        ALL_CODES = Collections.unmodifiableSet(allCodes);
+    }
+
+    private CountryCodes() {
+    }
+
+    /**
+     * Gets every known alpha-2 and alpha-3 code.
+     *
+     * @return an unmodifiable set of codes
+     */
+    public static Set<String> allCodes() {
+        return ALL_CODES;
+    }
+
+    /**
+     * Whether the code is a known alpha-2 or alpha-3 code.
+     *
+     * @param code the upper-case code
+     * @return true if the code is known
+     */
+    public static boolean isValid(String code) {
+        return ALL_CODES.contains(code);
+    }
+
+    /**
+     * Converts an alpha-3 code to alpha-2; alpha-2 codes are returned as they are.
+     *
+     * @param code the upper-case code, e.g. "KEN"
+     * @return the alpha-2 code, e.g. "KE", or the given code if it cannot be converted
+     */
+    public static String toAlpha2(String code) {
+        if (code.length() == 3) {
+            return ALPHA3_TO_ALPHA2.getOrDefault(code, code);
+        }
+        return code;
+    }
+
+    /**
+     * Converts an alpha-2 code to alpha-3; alpha-3 codes are returned as they are.
+     *
+     * @param code the upper-case code, e.g. "KE"
+     * @return the alpha-3 code, e.g. "KEN", or the given code if it cannot be converted
+     */
+    public static String toAlpha3(String code) {
+        if (code.length() == 2) {
+            return ALPHA2_TO_ALPHA3.getOrDefault(code, code);
+        }
+        return code;
+    }
+}
@@ -2,8 +2,6 @@ package io.leantony.validator.rules;
 
 import io.leantony.validator.lang.MessageRegistry;
 
-import java.util.HashSet;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
@@ -12,27 +10,18 @@ import java.util.Set;
  */
 public class CountryRule extends BaseRule {
     /**
-     * The constant VALID_COUNTRY_CODES.
+     * The constant VALID_COUNTRY_CODES, the unmodifiable set of {@link CountryCodes#allCodes()}.
+     *
+     * @deprecated use {@link CountryCodes#allCodes()} or {@link CountryCodes#isValid(String)}
      */
-    public static final Set<String> VALID_COUNTRY_CODES = new HashSet<>();
-
-    static {
-        for (String iso2 : Locale.getISOCountries()) {
-            VALID_COUNTRY_CODES.add(iso2.toUpperCase());
-            try {
-                String iso3 = new Locale("", iso2).getISO3Country().toUpperCase();
-                VALID_COUNTRY_CODES.add(iso3);
-            } catch (Exception e) {
-                // Ignore locales without an ISO3 code.
-            }
-        }
-    }
+    @Deprecated
+    public static final Set<String> VALID_COUNTRY_CODES = CountryCodes.allCodes();
 
     @Override
     public boolean validate(String field, Object value, java.util.Map<String, Object> data) {
         if (!(value instanceof String)) return false;
         String code = ((String) value).trim().toUpperCase();
-        return VALID_COUNTRY_CODES.contains(code);
+        return CountryCodes.isValid(code);
     }
 
     @Override
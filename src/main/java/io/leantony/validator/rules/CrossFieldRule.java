@@ -0,0 +1,20 @@
+package io.leantony.validator.rules;
+
+import java.util.List;
+
+/**
+ * The interface Cross field rule.
+ * <p>
+ * Marks a rule that reads other fields from the data besides the value being validated, such as
+ * {@code afterOrEqual:startDate} or {@code requiredWith:email}. A schema collects the references of its
+ * cross-field rules when it is compiled, to number them for {@link PresenceIndex} and to know which fields
+ * to keep when reading JSON.
+ */
+public interface CrossFieldRule extends ValidationRule {
+    /**
+     * Gets the fields this rule reads.
+     *
+     * @return the references, empty if this instance reads no other field (e.g. phoneno with a fixed region)
+     */
+    List<FieldReference> getReferences();
+}
@@ -0,0 +1,253 @@
+package io.leantony.validator.rules;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A date pattern in {@code SimpleDateFormat} notation, backed by an immutable {@link DateTimeFormatter}.
+ * <p>
+ * Instances are cached per pattern and are safe to share between threads. Parsing is strict: the whole
+ * value must match and the date must exist (no 30th of February). The default {@code yyyy-MM-dd} and the
+ * ISO {@code yyyy-MM-dd'T'HH:mm:ss} patterns are parsed by hand; other patterns are first checked with
+ * {@link DateTimeFormatter#parseUnresolved}, so most invalid values are rejected without an exception being thrown.
+ * <p>
+ * Letters keep their {@code SimpleDateFormat} meaning: {@code u} is the day number of the week (1 is Monday),
+ * {@code S} is milliseconds, {@code F} is the day of the week in the month, and {@code h}/{@code K} without
+ * {@code a} are morning hours. Names are English and matched ignoring case. Letters that
+ * {@code SimpleDateFormat} does not know are rejected.
+ */
+final class DatePattern {
+    static final String DEFAULT = "yyyy-MM-dd";
+    private static final String ISO_DATE_TIME = "yyyy-MM-dd'T'HH:mm:ss";
+    // Letters that java.time reads the same way as SimpleDateFormat; y, u, S and F are translated.
+    private static final String SAME_LETTERS = "GYMLwWDdEaHkKhmszZX";
+
+    private static final Map<String, DatePattern> CACHE = new ConcurrentHashMap<>();
+
+    private final String pattern;
+    private final DateTimeFormatter formatter;
+    private final int fastForm;
+
+    private DatePattern(String pattern) {
+        this.pattern = pattern;
+        this.formatter = toFormatter(pattern);
+        this.fastForm = pattern.equals(DEFAULT) ? 10 : pattern.equals(ISO_DATE_TIME) ? 19 : 0;
+    }
+
+    /**
+     * Returns the cached pattern.
+     *
+     * @param pattern the pattern, e.g. "dd/MM/yyyy"
+     * @return the date pattern
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    static DatePattern of(String pattern) {
+        DatePattern cached = CACHE.get(pattern);
+        if (cached == null) {
+            cached = CACHE.computeIfAbsent(pattern, DatePattern::new);
+        }
+        return cached;
+    }
+
+    /**
+     * Gets the pattern.
+     *
+     * @return the pattern
+     */
+    String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Whether the text is a valid date in this pattern.
+     *
+     * @param text the text
+     * @return true if it parses
+     */
+    boolean isValid(String text) {
+        return parse(text) != null;
+    }
+
+    /**
+     * Parses the text. Fields missing from the pattern default to 1970-01-01 and midnight.
+     *
+     * @param text the text
+     * @return the date and time, or null if the text is not a valid date in this pattern
+     */
+    LocalDateTime parse(String text) {
+        if (fastForm != 0) {
+            return parseIso(text, fastForm);
+        }
+        ParsePosition position = new ParsePosition(0);
+        if (formatter.parseUnresolved(text, position) == null || position.getIndex() != text.length()) {
+            return null;
+        }
+        try {
+            return toDateTime(formatter.parse(text));
+        } catch (DateTimeException e) {
+            // Well-formed but not a real date, e.g. 31/04/2025.
+            return null;
+        }
+    }
+
+    private static LocalDateTime toDateTime(TemporalAccessor parsed) {
+        LocalDate date = parsed.query(TemporalQueries.localDate());
+        LocalTime time = parsed.query(TemporalQueries.localTime());
+        return LocalDateTime.of(date == null ? LocalDate.EPOCH : date, time == null ? LocalTime.MIDNIGHT : time);
+    }
+
+    /**
+     * Parses {@code yyyy-MM-dd} (length 10) or {@code yyyy-MM-ddTHH:mm:ss} (length 19) without a formatter.
+     */
+    private static LocalDateTime parseIso(String text, int length) {
+        if (text.length() != length || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return null;
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
+            return null;
+        }
+        if (length == 10) {
+            return LocalDateTime.of(year, month, day, 0, 0);
+        }
+        if (text.charAt(10) != 'T' || text.charAt(13) != ':' || text.charAt(16) != ':') {
+            return null;
+        }
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = digits(text, 17, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second);
+    }
+
+    private static int digits(String text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Builds a strict java.time formatter for a SimpleDateFormat pattern. Without an era, the year letter
+     * {@code y} becomes {@code u} so that strict resolution does not require one. The letters java.time reads
+     * differently are appended as the fields SimpleDateFormat means. Quoted literals are left alone.
+     */
+    private static DateTimeFormatter toFormatter(String pattern) {
+        String letters = unquoted(pattern);
+        boolean era = letters.indexOf('G') >= 0;
+        DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder().parseCaseInsensitive();
+        StringBuilder pending = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                int end = closingQuote(pattern, i);
+                pending.append(pattern, i, end);
+                i = end;
+                continue;
+            }
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')) {
+                pending.append(c);
+                i++;
+                continue;
+            }
+            int count = 1;
+            while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+                count++;
+            }
+            switch (c) {
+                case 'y' -> pending.append(String.valueOf(era ? 'y' : 'u').repeat(count));
+                case 'u' -> appendNumber(builder.appendPattern(flush(pending)), ChronoField.DAY_OF_WEEK, count);
+                case 'S' -> appendNumber(builder.appendPattern(flush(pending)), ChronoField.MILLI_OF_SECOND, count);
+                case 'F' -> appendNumber(builder.appendPattern(flush(pending)), ChronoField.ALIGNED_WEEK_OF_MONTH, count);
+                default -> {
+                    if (SAME_LETTERS.indexOf(c) < 0) {
+                        throw new IllegalArgumentException("Unsupported letter '" + c + "' in date pattern: " + pattern);
+                    }
+                    pending.append(String.valueOf(c).repeat(count));
+                }
+            }
+            i += count;
+        }
+        builder.appendPattern(flush(pending));
+        if (letters.indexOf('a') < 0 && (letters.indexOf('h') >= 0 || letters.indexOf('K') >= 0)) {
+            builder.parseDefaulting(ChronoField.AMPM_OF_DAY, 0);
+        }
+        return builder.toFormatter(Locale.ENGLISH).withResolverStyle(ResolverStyle.STRICT);
+    }
+
+    private static void appendNumber(DateTimeFormatterBuilder builder, ChronoField field, int count) {
+        if (count == 1) {
+            builder.appendValue(field);
+        } else {
+            builder.appendValue(field, count);
+        }
+    }
+
+    private static String flush(StringBuilder pending) {
+        String chunk = pending.toString();
+        pending.setLength(0);
+        return chunk;
+    }
+
+    /**
+     * Gets the index after the quote that closes the literal starting at {@code start}; {@code ''} inside a
+     * literal is an escaped quote. An unclosed literal runs to the end, where java.time rejects it.
+     */
+    private static int closingQuote(String pattern, int start) {
+        int i = start + 1;
+        while (i < pattern.length()) {
+            if (pattern.charAt(i) == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static String unquoted(String pattern) {
+        StringBuilder letters = new StringBuilder(pattern.length());
+        int i = 0;
+        while (i < pattern.length()) {
+            if (pattern.charAt(i) == '\'') {
+                i = closingQuote(pattern, i);
+            } else {
+                letters.append(pattern.charAt(i++));
+            }
+        }
+        return letters.toString();
+    }
+}
@@ -2,16 +2,17 @@ package io.leantony.validator.rules;
 
 import io.leantony.validator.lang.MessageRegistry;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Map;
 
 /**
  * The type Date rule.
+ * <p>
+ * Formats use {@code SimpleDateFormat} letters and are parsed strictly with cached, immutable
+ * java.time formatters, so a rule instance can be shared by any number of threads.
  */
-public class DateRule extends BaseRule {
+public class DateRule extends BaseRule implements PrerequisiteRule {
     private final String format;
-    private final SimpleDateFormat sdf;
+    private final DatePattern datePattern;
 
     /**
      * Constructs a DateRule with a given date format.
@@ -20,32 +21,23 @@ public class DateRule extends BaseRule {
      */
     public DateRule(String format) {
         if (format == null || format.trim().isEmpty()) {
-            this.format = "yyyy-MM-dd";
+            this.format = DatePattern.DEFAULT;
         } else {
             this.format = format;
         }
-        this.sdf = new SimpleDateFormat(this.format);
-        this.sdf.setLenient(false);
+        this.datePattern = DatePattern.of(this.format);
     }
 
     /**
      * Constructs a DateRule that uses the default format "yyyy-MM-dd".
      */
     public DateRule() {
-        this("yyyy-MM-dd");
+        this(DatePattern.DEFAULT);
     }
 
     @Override
     public boolean validate(String field, Object value, Map<String, Object> data) {
-        if (!(value instanceof String)) {
-            return false;
-        }
-        try {
-            sdf.parse((String) value);
-            return true;
-        } catch (ParseException e) {
-            return false;
-        }
+        return value instanceof String text && datePattern.isValid(text);
     }
 
     @Override
@@ -0,0 +1,59 @@
+package io.leantony.validator.rules;
+
+import io.leantony.validator.lang.MessageRegistry;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * The type Decimal rule, like Laravel's decimal.
+ * <p>
+ * The value must be a number without an exponent, written with the given number of decimal places
+ * ({@code decimal:2}) or with a number of decimal places in a range ({@code decimal:1,3}). Places are
+ * counted as written, so "1.50" has two.
+ */
+public class DecimalRule extends BaseRule implements PrerequisiteRule {
+    private final int minPlaces;
+    private final int maxPlaces;
+
+    /**
+     * Instantiates a new Decimal rule.
+     *
+     * @param parameter the number of decimal places, e.g. "2", or a range, e.g. "1,3"
+     */
+    public DecimalRule(String parameter) {
+        if (parameter == null || parameter.trim().isEmpty()) {
+            throw new IllegalArgumentException("DecimalRule requires the number of decimal places, e.g. 'decimal:2' or 'decimal:1,3'.");
+        }
+        String[] parts = parameter.split(",", 2);
+        try {
+            this.minPlaces = Integer.parseInt(parts[0].trim());
+            this.maxPlaces = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : minPlaces;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("DecimalRule requires integer decimal places: " + parameter, e);
+        }
+        if (minPlaces < 0 || maxPlaces < minPlaces) {
+            throw new IllegalArgumentException("DecimalRule requires 0 <= min <= max: " + parameter);
+        }
+    }
+
+    @Override
+    public boolean validate(String field, Object value, Map<String, Object> data) {
+        if (value == null) return false;
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString().trim();
+        long shape = NumberScanner.scan(text);
+        if (shape == NumberScanner.INVALID || NumberScanner.hasExponent(shape)) {
+            return false;
+        }
+        int places = NumberScanner.fractionDigits(shape);
+        return places >= minPlaces && places <= maxPlaces;
+    }
+
+    @Override
+    public String getErrorMessage(String field, Object value, Map<String, Object> data) {
+        if (minPlaces == maxPlaces) {
+            return MessageRegistry.getResolver().resolve("decimal", field, minPlaces);
+        }
+        return MessageRegistry.getResolver().resolve("decimal.range", field, minPlaces, maxPlaces);
+    }
+}
@@ -0,0 +1,35 @@
+package io.leantony.validator.rules;
+
+import java.util.Map;
+
+/**
+ * The interface Detailed rule.
+ * <p>
+ * Marks a rule whose error message depends on what it found while validating, such as {@code afterOrEqual},
+ * whose message differs for numbers and dates. A schema calls {@link #check} instead of validate and keeps the
+ * returned detail with the error, so rendering the message later does not repeat the work of the check.
+ */
+public interface DetailedRule extends ValidationRule {
+    /**
+     * Validates the value, describing the failure if it is invalid.
+     *
+     * @param field   the field name (used in error messages)
+     * @param value   the value to validate
+     * @param data    the complete data map
+     * @param context where the value was found
+     * @return null if valid; otherwise the detail to render the error message with
+     */
+    Object check(String field, Object value, Map<String, Object> data, ValidationContext context);
+
+    /**
+     * Returns the error message for a failure described by {@link #check}.
+     *
+     * @param field   the field
+     * @param value   the value
+     * @param data    the data
+     * @param context where the value was found
+     * @param detail  the detail returned by check
+     * @return the error message
+     */
+    String getErrorMessage(String field, Object value, Map<String, Object> data, ValidationContext context, Object detail);
+}
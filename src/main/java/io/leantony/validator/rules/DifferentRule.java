@@ -2,13 +2,15 @@ package io.leantony.validator.rules;
 
 import io.leantony.validator.lang.MessageRegistry;
 
+import java.util.List;
 import java.util.Map;
 
 /**
  * The type Different rule.
  */
-public class DifferentRule extends BaseRule {
+public class DifferentRule extends BaseRule implements CrossFieldRule {
     private final String otherField;
+    private final FieldReference other;
 
     /**
      * Instantiates a new Different rule.
@@ -17,11 +19,17 @@ public class DifferentRule extends BaseRule {
      */
     public DifferentRule(String otherField) {
         this.otherField = otherField;
+        this.other = FieldReference.of(otherField);
     }
 
     @Override
     public boolean validate(String field, Object value, Map<String, Object> data) {
-        Object other = data.get(otherField);
+        return validate(field, value, data, ValidationContext.ROOT);
+    }
+
+    @Override
+    public boolean validate(String field, Object value, Map<String, Object> data, ValidationContext context) {
+        Object other = this.other.resolve(data, context);
         if (value == null) {
             // If the value is null, we consider it different if the other field is not null.
             return other != null;
@@ -29,6 +37,11 @@ public class DifferentRule extends BaseRule {
         return !value.equals(other);
     }
 
+    @Override
+    public List<FieldReference> getReferences() {
+        return List.of(other);
+    }
+
     @Override
     public String getErrorMessage(String field, Object value, Map<String, Object> data) {
         return MessageRegistry.getResolver().resolve("different", field, otherField);
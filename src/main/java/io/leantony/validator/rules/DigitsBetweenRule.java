@@ -0,0 +1,49 @@
+package io.leantony.validator.rules;
+
+import io.leantony.validator.lang.MessageRegistry;
+
+import java.util.Map;
+
+/**
+ * The type Digits between rule, like Laravel's digits_between.
+ * <p>
+ * The value must be made only of digits (no sign, decimal point or exponent), and their count must be
+ * between the minimum and maximum, inclusive. Leading zeros count, so "007" has three digits.
+ */
+public class DigitsBetweenRule extends BaseRule implements PrerequisiteRule {
+    private final int min;
+    private final int max;
+
+    /**
+     * Instantiates a new Digits between rule.
+     *
+     * @param parameter the minimum and maximum digit count, e.g. "4,6"
+     */
+    public DigitsBetweenRule(String parameter) {
+        if (parameter == null || !parameter.contains(",")) {
+            throw new IllegalArgumentException("DigitsBetweenRule requires parameters in the format 'min,max'.");
+        }
+        String[] parts = parameter.split(",", 2);
+        try {
+            this.min = Integer.parseInt(parts[0].trim());
+            this.max = Integer.parseInt(parts[1].trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("DigitsBetweenRule requires integer bounds: " + parameter, e);
+        }
+        if (min < 0 || max < min) {
+            throw new IllegalArgumentException("DigitsBetweenRule requires 0 <= min <= max: " + parameter);
+        }
+    }
+
+    @Override
+    public boolean validate(String field, Object value, Map<String, Object> data) {
+        if (value == null) return false;
+        String text = value.toString().trim();
+        return NumberScanner.isDigits(text) && text.length() >= min && text.length() <= max;
+    }
+
+    @Override
+    public String getErrorMessage(String field, Object value, Map<String, Object> data) {
+        return MessageRegistry.getResolver().resolve("digitsBetween", field, min, max);
+    }
+}
@@ -2,35 +2,91 @@ package io.leantony.validator.rules;
 
 import io.leantony.validator.lang.MessageRegistry;
 
-import java.util.Arrays;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The type Enum rule.
+ * <p>
+ * Constant names are matched ignoring case. Class names are resolved once per context class loader and
+ * the names of each enum class are indexed once, so creating the rule again (e.g. for every schema) and
+ * validating a value are both constant-time map lookups.
  */
 public class EnumRule implements ValidationRule {
-    private final Class<? extends Enum<?>> enumClass;
-    private final String allowedValues;
+    private static final ClassValue<EnumIndex> INDEXES = new ClassValue<>() {
+        @Override
+        protected EnumIndex computeValue(Class<?> type) {
+            return new EnumIndex(type);
+        }
+    };
+
+    // Classes resolved by name, per context class loader. Both sides are weak so that a cached class
+    // does not keep a web application's class loader from being unloaded.
+    private static final Map<ClassLoader, Map<String, WeakReference<Class<?>>>> RESOLVED =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final EnumIndex index;
 
     /**
      * Constructs an EnumRule with the specified enum class.
+     * The class is loaded through the thread's context class loader if it has one,
+     * and through the class loader of this library otherwise.
      *
      * @param enumClassName The fully qualified name of the enum class.
      */
-    @SuppressWarnings("unchecked")
     public EnumRule(String enumClassName) {
-        try {
-            Class<?> clazz = Class.forName(enumClassName);
-            if (!clazz.isEnum()) {
-                throw new IllegalArgumentException("Provided class is not an enum: " + enumClassName);
+        this(loadEnum(enumClassName));
+    }
+
+    /**
+     * Constructs an EnumRule with the specified enum class.
+     *
+     * @param enumClass the enum class
+     */
+    public EnumRule(Class<? extends Enum<?>> enumClass) {
+        this.index = INDEXES.get(enumClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Enum<?>> loadEnum(String enumClassName) {
+        Class<?> clazz = loadClass(enumClassName);
+        if (!clazz.isEnum()) {
+            throw new IllegalArgumentException("Provided class is not an enum: " + enumClassName);
+        }
+        return (Class<? extends Enum<?>>) clazz;
+    }
+
+    private static Class<?> loadClass(String className) {
+        ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+        Map<String, WeakReference<Class<?>>> byName = RESOLVED.computeIfAbsent(contextLoader, loader -> new ConcurrentHashMap<>());
+        WeakReference<Class<?>> cached = byName.get(className);
+        Class<?> clazz = cached == null ? null : cached.get();
+        if (clazz == null) {
+            clazz = resolveClass(className, contextLoader);
+            byName.put(className, new WeakReference<>(clazz));
+        }
+        return clazz;
+    }
+
+    private static Class<?> resolveClass(String className, ClassLoader contextLoader) {
+        if (contextLoader != null) {
+            try {
+                return Class.forName(className, true, contextLoader);
+            } catch (ClassNotFoundException e) {
+                // Fall back to the loader of this library.
             }
-            this.enumClass = (Class<? extends Enum<?>>) clazz;
-            this.allowedValues = Arrays.stream(enumClass.getEnumConstants())
-                    .map(Enum::name)
-                    .collect(Collectors.joining(", "));
+        }
+        try {
+            return Class.forName(className, true, EnumRule.class.getClassLoader());
         } catch (ClassNotFoundException e) {
-            throw new IllegalArgumentException("Enum class not found: " + enumClassName, e);
+            throw new IllegalArgumentException("Enum class not found: " + className, e);
         }
     }
 
@@ -39,16 +95,42 @@ public class EnumRule implements ValidationRule {
         if (value == null) {
             return false; // Null values are not allowed in this validation
         }
-        String stringValue = value.toString();
-        return Arrays.stream(enumClass.getEnumConstants())
-                     .map(Enum::name)
-                     .anyMatch(enumValue -> enumValue.equalsIgnoreCase(stringValue));
+        return index.contains(value.toString());
     }
 
     @Override
     public String getErrorMessage(String field, Object value, Map<String, Object> data) {
         // Use the "enum" key and pass the allowed values (as a comma‐separated string)
-        return MessageRegistry.getResolver().resolve("enum", field, allowedValues);
+        return MessageRegistry.getResolver().resolve("enum", field, index.allowedValues);
     }
 
+    /**
+     * The constant names of one enum class.
+     */
+    private static final class EnumIndex {
+        private final Map<String, String> namesByLowerCase = new HashMap<>();
+        private final Set<String> names = new HashSet<>();
+        private final String allowedValues;
+
+        private EnumIndex(Class<?> enumClass) {
+            StringBuilder joined = new StringBuilder();
+            for (Object constant : enumClass.getEnumConstants()) {
+                String name = ((Enum<?>) constant).name();
+                names.add(name);
+                namesByLowerCase.put(name.toLowerCase(Locale.ROOT), name);
+                if (!joined.isEmpty()) joined.append(", ");
+                joined.append(name);
+            }
+            this.allowedValues = joined.toString();
+        }
+
+        private boolean contains(String value) {
+            // Most values use the exact constant name; only other spellings pay for lower-casing.
+            if (names.contains(value)) {
+                return true;
+            }
+            String name = namesByLowerCase.get(value.toLowerCase(Locale.ROOT));
+            return name != null && name.equalsIgnoreCase(value);
+        }
+    }
 }
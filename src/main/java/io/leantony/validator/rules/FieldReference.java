@@ -0,0 +1,181 @@
+package io.leantony.validator.rules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A field named in the parameter of a cross-field rule, such as {@code startDate} in {@code afterOrEqual:startDate},
+ * parsed once when the rule is created.
+ * <p>
+ * A plain name is read from the root of the data. A dotted name such as {@code billing.country} or
+ * {@code items[0].sku} is walked from the root. A name with wildcards is relative to the value being validated:
+ * its wildcards take the keys and indexes of that value, so a rule on {@code items.*.endDate} that refers to
+ * {@code items.*.startDate} compares each item with its own start date. The walk starts at the deepest node the
+ * reference shares with the value being validated (see {@link ValidationContext}), so a sibling costs one map
+ * lookup whatever the depth of the list.
+ * <p>
+ * References are equal when their text is, so a schema gives every reference to the same field one slot in
+ * its {@link ReferenceTable}, however many rules refer to it.
+ */
+public final class FieldReference {
+    // Tokens like "users[0]", "users[*]", or "users[1-5]"
+    private static final Pattern INDEX_PATTERN = Pattern.compile("(.+)\\[(\\*|\\d+(?:-\\d+)?)\\]");
+    private static final int ANY = -1;
+
+    private final String reference;
+    private final boolean relative;
+    private final String simpleName;
+    // For each step, the map key or null; and the list index, or ANY for a wildcard step.
+    private final String[] names;
+    private final int[] indexes;
+
+    private FieldReference(String reference) {
+        this.reference = reference;
+        if (reference.indexOf('.') == -1 && reference.indexOf('[') == -1 && !reference.equals("*")) {
+            this.simpleName = reference;
+            this.names = new String[]{reference};
+            this.indexes = new int[]{0};
+            this.relative = false;
+            return;
+        }
+        this.simpleName = null;
+        List<String> stepNames = new ArrayList<>();
+        List<Integer> stepIndexes = new ArrayList<>();
+        for (String part : reference.split("\\.")) {
+            if (part.equals("*")) {
+                stepNames.add(null);
+                stepIndexes.add(ANY);
+                continue;
+            }
+            Matcher matcher = INDEX_PATTERN.matcher(part);
+            if (!matcher.matches()) {
+                stepNames.add(part);
+                stepIndexes.add(0);
+                continue;
+            }
+            stepNames.add(matcher.group(1));
+            stepIndexes.add(0);
+            String index = matcher.group(2);
+            stepNames.add(null);
+            try {
+                // A range is bound like a wildcard: to the index of the value being validated.
+                stepIndexes.add(index.equals("*") || index.indexOf('-') != -1 ? ANY : Integer.parseInt(index));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid index in field reference '" + reference + "': " + part, e);
+            }
+        }
+        this.names = stepNames.toArray(new String[0]);
+        this.indexes = stepIndexes.stream().mapToInt(Integer::intValue).toArray();
+        this.relative = stepIndexes.contains(ANY);
+    }
+
+    /**
+     * Parses a field reference.
+     *
+     * @param reference the reference, e.g. "items.*.startDate"
+     * @return the field reference
+     */
+    public static FieldReference of(String reference) {
+        return new FieldReference(reference.trim());
+    }
+
+    /**
+     * Gets the reference as written.
+     *
+     * @return the reference
+     */
+    public String getReference() {
+        return reference;
+    }
+
+    /**
+     * Whether the reference contains wildcards, whose value therefore depends on the value being validated.
+     *
+     * @return true if the reference is relative
+     */
+    public boolean isRelative() {
+        return relative;
+    }
+
+    /**
+     * Reads the referenced value from the root of the data.
+     *
+     * @param data the data
+     * @return the value, or null if it is missing or the reference contains unbound wildcards
+     */
+    public Object resolve(Map<String, Object> data) {
+        return resolve(data, ValidationContext.ROOT);
+    }
+
+    /**
+     * Reads the referenced value for the value being validated.
+     *
+     * @param data    the data
+     * @param context where the value being validated was found
+     * @return the value, or null if it is missing
+     */
+    public Object resolve(Map<String, Object> data, ValidationContext context) {
+        if (data == null) {
+            return null;
+        }
+        if (simpleName != null) {
+            return data.get(simpleName);
+        }
+        Object current = data;
+        int step = 0;
+        int depth = Math.min(context.getDepth(), names.length);
+        // Skip the steps shared with the value being validated; wildcards take its keys and indexes.
+        while (step < depth && isShared(step, context)) {
+            current = context.getNode(step);
+            step++;
+        }
+        for (; step < names.length && current != null; step++) {
+            current = follow(current, step);
+        }
+        return current;
+    }
+
+    private boolean isShared(int step, ValidationContext context) {
+        String name = names[step];
+        if (name != null) {
+            return name.equals(context.getName(step));
+        }
+        return indexes[step] == ANY || indexes[step] == context.getIndex(step);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object follow(Object current, int step) {
+        String name = names[step];
+        if (name != null) {
+            return current instanceof Map ? ((Map<String, Object>) current).get(name) : null;
+        }
+        int index = indexes[step];
+        if (index == ANY) {
+            // A wildcard that the value being validated does not bind.
+            return null;
+        }
+        if (current instanceof List<?> list) {
+            return index < list.size() ? list.get(index) : null;
+        }
+        // Like rule keys, an index applied to something other than a list is ignored.
+        return current;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof FieldReference other && reference.equals(other.reference));
+    }
+
+    @Override
+    public int hashCode() {
+        return reference.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return reference;
+    }
+}
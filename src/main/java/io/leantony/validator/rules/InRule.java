@@ -2,15 +2,13 @@ package io.leantony.validator.rules;
 
 import io.leantony.validator.lang.MessageRegistry;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 
 /**
  * The type In rule.
  */
 public class InRule extends BaseRule {
-    private final List<String> allowedValues;
+    private final ValueSet allowedValues;
 
     /**
      * Instantiates a new In rule.
@@ -18,8 +16,17 @@ public class InRule extends BaseRule {
      * @param parameter the parameter
      */
     public InRule(String parameter) {
-        // Split the parameter on commas (ignoring spaces around commas)
-        allowedValues = Arrays.asList(parameter.split("\\s*,\\s*"));
+        this(parameter, MatchMode.EXACT);
+    }
+
+    /**
+     * Instantiates a new In rule.
+     *
+     * @param parameter the comma-separated allowed values
+     * @param mode      how the value is compared with the allowed values
+     */
+    public InRule(String parameter, MatchMode mode) {
+        allowedValues = new ValueSet(parameter, mode);
     }
 
     @Override
@@ -27,14 +34,12 @@ public class InRule extends BaseRule {
         if (value == null) {
             return false;
         }
-        return allowedValues.contains(value.toString());
+        return allowedValues.contains(value);
     }
 
     @Override
     public String getErrorMessage(String field, Object value, Map<String, Object> data) {
-        // Join allowed values as a comma-separated string.
-        String allowed = String.join(", ", allowedValues);
-        return MessageRegistry.getResolver().resolve("in", field, allowed);
+        return MessageRegistry.getResolver().resolve("in", field, allowedValues.joined());
     }
 
 }
@@ -0,0 +1,22 @@
+package io.leantony.validator.rules;
+
+/**
+ * How {@link InRule} and {@link NotInRule} compare a value with the listed values.
+ */
+public enum MatchMode {
+    /**
+     * The value's string form must equal a listed value exactly.
+     */
+    EXACT,
+
+    /**
+     * The value's string form must equal a listed value, ignoring case.
+     */
+    IGNORE_CASE,
+
+    /**
+     * The value must be a number equal to a listed number, whatever its representation
+     * (e.g. 5, "5", "5.00" and "5e0" are all equal). Every listed value must be a number.
+     */
+    NUMERIC
+}
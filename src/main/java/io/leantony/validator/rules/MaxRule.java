@@ -3,15 +3,14 @@ package io.leantony.validator.rules;
 import io.leantony.validator.lang.MessageRegistry;
 
 import java.lang.reflect.Array;
-import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.Map;
 
 /**
  * The type Max rule.
  */
 public class MaxRule extends BaseRule {
-    private final BigDecimal max;
-    private final boolean isInteger;
+    private final NumericBound max;
 
     /**
      * Instantiates a new Max rule.
@@ -19,16 +18,13 @@ public class MaxRule extends BaseRule {
      * @param max the max
      */
     public MaxRule(double max) {
-        this.max = BigDecimal.valueOf(max);
-        this.isInteger = isWholeNumber(this.max);
-    }
-
-    // Helper methods
-    private static boolean isWholeNumber(BigDecimal value) {
-        return value.scale() <= 0 || value.stripTrailingZeros().scale() <= 0;
+        this.max = new NumericBound(max);
     }
 
     private static int sizeOf(Iterable<?> iterable) {
+        if (iterable instanceof Collection<?> collection) {
+            return collection.size();
+        }
         int count = 0;
         for (Object obj : iterable) count++;
         return count;
@@ -56,9 +52,7 @@ public class MaxRule extends BaseRule {
 
     @Override
     public String getErrorMessage(String field, Object value, Map<String, Object> data) {
-        String maxString = isInteger ?
-                String.valueOf(max.intValueExact()) :
-                max.stripTrailingZeros().toPlainString();
+        String maxString = max.text();
 
         if (value instanceof Number) {
             return MessageRegistry.getResolver().resolve("max.number", field, maxString);
@@ -75,14 +69,16 @@ public class MaxRule extends BaseRule {
 
     // Validation implementations
     private boolean validateNumber(Number value) {
-        return new BigDecimal(value.toString()).compareTo(max) <= 0;
+        int comparison = max.compare(value);
+        return comparison != NumericBound.UNORDERED && comparison <= 0;
     }
 
     private boolean validateLength(String value) {
-        return isInteger && value.length() <= max.intValueExact();
+        return validateSize(value.length());
     }
 
     private boolean validateSize(int size) {
-        return isInteger && size <= max.intValueExact();
+        int comparison = max.compareSize(size);
+        return comparison != NumericBound.UNORDERED && comparison <= 0;
     }
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package io.leantony.validator.rules;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * Remembers the outcome of another rule per value, for rules that are expensive to run on values
+ * that repeat, such as phone number parsing or a database lookup.
+ * <p>
+ * Only rules whose outcome depends on nothing but their parameter and the value may be memoized:
+ * {@link #canMemoize(ValidationRule)} rejects cross-field rules that read other fields
+ * (e.g. {@code phoneno:countryField}) and the marker rules a schema changes its control flow for
+ * ({@link OptionalRule}, {@link BailRule} and {@link PrerequisiteRule}), which a wrapper would hide.
+ * Values are only cached when they are immutable scalars (strings, numbers, booleans, characters and enums);
+ * anything else is passed straight to the wrapped rule. Error messages always come from the wrapped rule.
+ */
+public class MemoizingRule extends BaseRule {
+    private final ValidationRule delegate;
+    private final String parameter;
+    private final RuleCache cache;
+
+    /**
+     * Instantiates a new Memoizing rule.
+     *
+     * @param delegate  the rule to memoize
+     * @param parameter the parameter the rule was created with; part of the cache key
+     * @param cache     the cache, usually shared by every rule created from the same factory
+     * @throws IllegalArgumentException if the rule cannot be memoized
+     */
+    public MemoizingRule(ValidationRule delegate, String parameter, RuleCache cache) {
+        if (!canMemoize(delegate)) {
+            throw new IllegalArgumentException("Rule cannot be memoized: " + delegate.getClass().getSimpleName());
+        }
+        this.delegate = delegate;
+        this.parameter = parameter;
+        this.cache = cache;
+    }
+
+    /**
+     * Whether a rule can be memoized: it reads no other field and is not a marker the schema looks for.
+     *
+     * @param rule the rule
+     * @return true if the rule can be wrapped
+     */
+    public static boolean canMemoize(ValidationRule rule) {
+        if (rule instanceof OptionalRule || rule instanceof BailRule || rule instanceof PrerequisiteRule) {
+            return false;
+        }
+        return !(rule instanceof CrossFieldRule crossField) || crossField.getReferences().isEmpty();
+    }
+
+    /**
+     * Gets the wrapped rule.
+     *
+     * @return the wrapped rule
+     */
+    public ValidationRule getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public boolean validate(String field, Object value, Map<String, Object> data) {
+        return validate(field, value, data, ValidationContext.ROOT);
+    }
+
+    @Override
+    public boolean validate(String field, Object value, Map<String, Object> data, ValidationContext context) {
+        if (!isCacheable(value)) {
+            return delegate.validate(field, value, data, context);
+        }
+        Boolean cached = cache.get(parameter, value);
+        if (cached != null) {
+            return cached;
+        }
+        boolean valid = delegate.validate(field, value, data, context);
+        cache.put(parameter, value, valid);
+        return valid;
+    }
+
+    @Override
+    public String getErrorMessage(String field, Object value, Map<String, Object> data) {
+        return delegate.getErrorMessage(field, value, data);
+    }
+
+    @Override
+    public String getErrorMessage(String field, Object value, Map<String, Object> data, ValidationContext context) {
+        return delegate.getErrorMessage(field, value, data, context);
+    }
+
+    private static boolean isCacheable(Object value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long
+                || value instanceof Boolean || value instanceof Double || value instanceof BigDecimal
+                || value instanceof BigInteger || value instanceof Short || value instanceof Byte
+                || value instanceof Float || value instanceof Character || value instanceof Enum<?>;
+    }
+}
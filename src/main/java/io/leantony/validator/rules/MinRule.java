@@ -3,15 +3,14 @@ package io.leantony.validator.rules;
 import io.leantony.validator.lang.MessageRegistry;
 
 import java.lang.reflect.Array;
-import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.Map;
 
 /**
  * The type Min rule.
  */
 public class MinRule extends BaseRule {
-    private final BigDecimal min;
-    private final boolean isInteger;
+    private final NumericBound min;
 
     /**
      * Instantiates a new Min rule.
@@ -19,15 +18,13 @@ public class MinRule extends BaseRule {
      * @param min the min
      */
     public MinRule(double min) {
-        this.min = BigDecimal.valueOf(min);
-        this.isInteger = isWholeNumber(this.min);
-    }
-
-    private static boolean isWholeNumber(BigDecimal value) {
-        return value.scale() <= 0 || value.stripTrailingZeros().scale() <= 0;
+        this.min = new NumericBound(min);
     }
 
     private static int sizeOf(Iterable<?> iterable) {
+        if (iterable instanceof Collection<?> collection) {
+            return collection.size();
+        }
         int count = 0;
         for (Object obj : iterable) count++;
         return count;
@@ -55,9 +52,7 @@ public class MinRule extends BaseRule {
 
     @Override
     public String getErrorMessage(String field, Object value, Map<String, Object> data) {
-        String minString = isInteger ?
-                String.valueOf(min.intValueExact()) :
-                min.stripTrailingZeros().toPlainString();
+        String minString = min.text();
 
         if (value instanceof Number) {
             return MessageRegistry.getResolver().resolve("min.number", field, minString);
@@ -74,14 +69,16 @@ public class MinRule extends BaseRule {
 
     // Rest of the implementation remains the same
     private boolean validateNumber(Number value) {
-        return new BigDecimal(value.toString()).compareTo(min) >= 0;
+        int comparison = min.compare(value);
+        return comparison != NumericBound.UNORDERED && comparison >= 0;
     }
 
     private boolean validateLength(String value) {
-        return isInteger && value.length() >= min.intValueExact();
+        return validateSize(value.length());
     }
 
     private boolean validateSize(int size) {
-        return isInteger && size >= min.intValueExact();
+        int comparison = min.compareSize(size);
+        return comparison != NumericBound.UNORDERED && comparison >= 0;
     }
 }
\ No newline at end of file
@@ -2,15 +2,13 @@ package io.leantony.validator.rules;
 
 import io.leantony.validator.lang.MessageRegistry;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 
 /**
  * The type Not in rule.
  */
 public class NotInRule extends BaseRule {
-    private final List<String> disallowedValues;
+    private final ValueSet disallowedValues;
 
     /**
      * Instantiates a new Not in rule.
@@ -18,7 +16,17 @@ public class NotInRule extends BaseRule {
      * @param parameter the parameter
      */
     public NotInRule(String parameter) {
-        disallowedValues = Arrays.asList(parameter.split("\\s*,\\s*"));
+        this(parameter, MatchMode.EXACT);
+    }
+
+    /**
+     * Instantiates a new Not in rule.
+     *
+     * @param parameter the comma-separated disallowed values
+     * @param mode      how the value is compared with the disallowed values
+     */
+    public NotInRule(String parameter, MatchMode mode) {
+        disallowedValues = new ValueSet(parameter, mode);
     }
 
     @Override
@@ -27,12 +35,11 @@ public class NotInRule extends BaseRule {
             // Treat null as valid since there's nothing to check.
             return true;
         }
-        return !disallowedValues.contains(value.toString());
+        return !disallowedValues.contains(value);
     }
 
     @Override
     public String getErrorMessage(String field, Object value, Map<String, Object> data) {
-        String disallowed = String.join(", ", disallowedValues);
-        return MessageRegistry.getResolver().resolve("notIn", field, disallowed);
+        return MessageRegistry.getResolver().resolve("notIn", field, disallowedValues.joined());
     }
 }
@@ -0,0 +1,188 @@
+package io.leantony.validator.rules;
+
+/**
+ * Recognizes numbers in text without throwing, so that rules can classify a value before
+ * converting it instead of catching {@link NumberFormatException}.
+ */
+final class NumberScanner {
+    /**
+     * Returned by {@link #scan(CharSequence)} for text that is not a number.
+     */
+    static final long INVALID = -1L;
+
+    // Up to 18 digits always fit in a long.
+    private static final int MAX_LONG_DIGITS = 18;
+
+    // Each digit count takes 20 bits of the shape; longer text is not treated as a number.
+    private static final int MAX_SCAN_LENGTH = (1 << 20) - 1;
+    private static final long COUNT_MASK = MAX_SCAN_LENGTH;
+    private static final int FRACTION_SHIFT = 20;
+    private static final int EXPONENT_SHIFT = 40;
+    private static final long NEGATIVE = 1L << 60;
+    private static final long EXPONENT = 1L << 61;
+
+    private NumberScanner() {
+    }
+
+    /**
+     * Scans the text against the {@link java.math.BigDecimal#BigDecimal(String)} grammar:
+     * an optional sign, digits with an optional fraction, and an optional exponent.
+     * <p>
+     * The shape of the number is packed into the returned long so that nothing is allocated; read it with
+     * {@link #integerDigits(long)}, {@link #fractionDigits(long)}, {@link #exponentDigits(long)},
+     * {@link #isNegative(long)} and {@link #hasExponent(long)}.
+     *
+     * @param text the text
+     * @return the shape of the number, or {@link #INVALID} if the text is not a decimal number
+     */
+    static long scan(CharSequence text) {
+        int length = text.length();
+        if (length > MAX_SCAN_LENGTH) return INVALID;
+        int i = 0;
+        boolean negative = false;
+        if (i < length && (text.charAt(i) == '+' || text.charAt(i) == '-')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+        int start = i;
+        while (i < length && isDigit(text.charAt(i))) i++;
+        int integerDigits = i - start;
+        int fractionDigits = 0;
+        if (i < length && text.charAt(i) == '.') {
+            start = ++i;
+            while (i < length && isDigit(text.charAt(i))) i++;
+            fractionDigits = i - start;
+        }
+        if (integerDigits + fractionDigits == 0) return INVALID;
+        int exponentDigits = 0;
+        boolean exponent = false;
+        if (i < length && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            exponent = true;
+            i++;
+            if (i < length && (text.charAt(i) == '+' || text.charAt(i) == '-')) i++;
+            start = i;
+            while (i < length && isDigit(text.charAt(i))) i++;
+            exponentDigits = i - start;
+            if (exponentDigits == 0) return INVALID;
+        }
+        if (i != length) return INVALID;
+        return integerDigits
+                | (long) fractionDigits << FRACTION_SHIFT
+                | (long) exponentDigits << EXPONENT_SHIFT
+                | (negative ? NEGATIVE : 0)
+                | (exponent ? EXPONENT : 0);
+    }
+
+    /**
+     * Gets the number of digits before the decimal point.
+     *
+     * @param shape a shape returned by {@link #scan(CharSequence)}
+     * @return the digit count
+     */
+    static int integerDigits(long shape) {
+        return (int) (shape & COUNT_MASK);
+    }
+
+    /**
+     * Gets the number of digits after the decimal point, i.e. the scale as written.
+     *
+     * @param shape a shape returned by {@link #scan(CharSequence)}
+     * @return the digit count
+     */
+    static int fractionDigits(long shape) {
+        return (int) (shape >>> FRACTION_SHIFT & COUNT_MASK);
+    }
+
+    /**
+     * Gets the number of digits in the exponent.
+     *
+     * @param shape a shape returned by {@link #scan(CharSequence)}
+     * @return the digit count, 0 if there is no exponent
+     */
+    static int exponentDigits(long shape) {
+        return (int) (shape >>> EXPONENT_SHIFT & COUNT_MASK);
+    }
+
+    /**
+     * Whether the number has a minus sign.
+     *
+     * @param shape a shape returned by {@link #scan(CharSequence)}
+     * @return true if negative
+     */
+    static boolean isNegative(long shape) {
+        return (shape & NEGATIVE) != 0;
+    }
+
+    /**
+     * Whether the number has an exponent.
+     *
+     * @param shape a shape returned by {@link #scan(CharSequence)}
+     * @return true if there is an exponent
+     */
+    static boolean hasExponent(long shape) {
+        return (shape & EXPONENT) != 0;
+    }
+
+    /**
+     * Whether the text matches the {@link java.math.BigDecimal#BigDecimal(String)} grammar.
+     *
+     * @param text the text
+     * @return true if the text is a decimal number
+     * @see #scan(CharSequence)
+     */
+    static boolean isDecimal(CharSequence text) {
+        return scan(text) != INVALID;
+    }
+
+    /**
+     * Whether the text is made only of ASCII digits, at least one.
+     *
+     * @param text the text
+     * @return true if the text is an unsigned integer written without a sign, point or exponent
+     */
+    static boolean isDigits(CharSequence text) {
+        int length = text.length();
+        if (length == 0) return false;
+        for (int i = 0; i < length; i++) {
+            if (!isDigit(text.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Whether the text is an optionally signed integer that fits in a long without overflow checks,
+     * i.e. one of at most 18 digits.
+     *
+     * @param text the text
+     * @return true if {@link #parseSmallLong(CharSequence)} can be used
+     */
+    static boolean isSmallLong(CharSequence text) {
+        int length = text.length();
+        int start = length > 0 && (text.charAt(0) == '+' || text.charAt(0) == '-') ? 1 : 0;
+        if (length == start || length - start > MAX_LONG_DIGITS) return false;
+        for (int i = start; i < length; i++) {
+            if (!isDigit(text.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Parses text accepted by {@link #isSmallLong(CharSequence)}.
+     *
+     * @param text the text
+     * @return the value
+     */
+    static long parseSmallLong(CharSequence text) {
+        boolean negative = text.charAt(0) == '-';
+        int start = negative || text.charAt(0) == '+' ? 1 : 0;
+        long value = 0;
+        for (int i = start; i < text.length(); i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
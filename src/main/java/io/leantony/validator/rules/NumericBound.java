@@ -0,0 +1,117 @@
+package io.leantony.validator.rules;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * The limit of a min or max rule, prepared once so that values can be compared against it without
+ * converting them to text.
+ * <p>
+ * Integral values are compared as longs, doubles as doubles, and BigIntegers and BigDecimals directly.
+ * Floats and other Number types keep going through their decimal text, so that a float such as
+ * {@code 0.1f} compares as 0.1 rather than as its slightly larger double value.
+ */
+final class NumericBound {
+    /**
+     * Returned by the compare methods when the value has no place relative to the bound,
+     * e.g. NaN, or a size compared against a fractional bound.
+     */
+    static final int UNORDERED = Integer.MIN_VALUE;
+
+    private final double value;
+    private final BigDecimal decimal;
+    private final boolean whole;
+    // The largest long not greater than the bound, valid when floorInRange is 0.
+    private final long floor;
+    // -1 if the bound is below every long, 1 if it is above every long, 0 otherwise.
+    private final int floorInRange;
+    private final BigInteger integer;
+    private final String text;
+
+    /**
+     * Prepares a bound.
+     *
+     * @param value the bound
+     */
+    NumericBound(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Bound must be a finite number: " + value);
+        }
+        this.value = value;
+        this.decimal = BigDecimal.valueOf(value);
+        this.whole = decimal.scale() <= 0 || decimal.stripTrailingZeros().scale() <= 0;
+        BigInteger floorValue = decimal.setScale(0, RoundingMode.FLOOR).toBigIntegerExact();
+        if (floorValue.bitLength() < Long.SIZE) {
+            this.floor = floorValue.longValue();
+            this.floorInRange = 0;
+        } else {
+            this.floor = 0;
+            this.floorInRange = floorValue.signum();
+        }
+        this.integer = whole ? floorValue : null;
+        this.text = decimal.stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Gets the bound as shown in messages, e.g. "5" or "2.5".
+     *
+     * @return the text
+     */
+    String text() {
+        return text;
+    }
+
+    /**
+     * Compares a number with the bound.
+     *
+     * @param number the number
+     * @return -1, 0 or 1 as the number is less than, equal to or greater than the bound, or {@link #UNORDERED}
+     */
+    int compare(Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            return compare(number.longValue());
+        }
+        if (number instanceof Double) {
+            double d = number.doubleValue();
+            return d < value ? -1 : d > value ? 1 : d == value ? 0 : UNORDERED;
+        }
+        if (number instanceof BigDecimal d) {
+            return Integer.signum(d.compareTo(decimal));
+        }
+        if (number instanceof BigInteger i) {
+            return integer != null ? Integer.signum(i.compareTo(integer)) : Integer.signum(new BigDecimal(i).compareTo(decimal));
+        }
+        String text = number.toString();
+        if (!NumberScanner.isDecimal(text)) {
+            return UNORDERED;
+        }
+        try {
+            return Integer.signum(new BigDecimal(text).compareTo(decimal));
+        } catch (NumberFormatException e) {
+            // The exponent does not fit in an int.
+            return UNORDERED;
+        }
+    }
+
+    /**
+     * Compares a length or size with the bound. Only whole bounds apply to sizes.
+     *
+     * @param size the size
+     * @return -1, 0 or 1 as the size is less than, equal to or greater than the bound, or {@link #UNORDERED}
+     */
+    int compareSize(long size) {
+        return whole ? compare(size) : UNORDERED;
+    }
+
+    private int compare(long number) {
+        if (floorInRange != 0) {
+            return -floorInRange;
+        }
+        if (number != floor) {
+            return number < floor ? -1 : 1;
+        }
+        // Equal to the floor: below the bound unless the bound is the floor itself.
+        return whole ? 0 : -1;
+    }
+}
@@ -6,8 +6,11 @@ import java.util.Map;
 
 /**
  * The type Numeric rule.
+ * <p>
+ * A value is numeric if its text is a decimal number: an optional sign, digits with an optional fraction
+ * and an optional exponent, e.g. "42", "-0.5" or "1.5E3".
  */
-public class NumericRule extends BaseRule {
+public class NumericRule extends BaseRule implements PrerequisiteRule {
     private final Integer digitCount; // If null, no digit count check is performed
 
     /**
@@ -30,17 +33,15 @@ public class NumericRule extends BaseRule {
     public boolean validate(String field, Object value, Map<String, Object> data) {
         if (value == null) return false;
         String strValue = value.toString().trim();
-        try {
-            // Check that the value can be parsed as a number
-            Double.parseDouble(strValue);
-        } catch (NumberFormatException e) {
+        // One pass decides whether it is a number and counts its digits; nothing is thrown or allocated.
+        long shape = NumberScanner.scan(strValue);
+        if (shape == NumberScanner.INVALID) {
             return false;
         }
         if (digitCount != null) {
-            // Remove any non-digit characters (e.g., decimal points, minus signs) to count only the digits.
-            @SuppressWarnings("RegExpSimplifiable")
-            String digits = strValue.replaceAll("[^\\d]", "");
-            return digits.length() == digitCount;
+            // Every digit counts, ignoring the sign, the decimal point and the exponent marker.
+            int digits = NumberScanner.integerDigits(shape) + NumberScanner.fractionDigits(shape) + NumberScanner.exponentDigits(shape);
+            return digits == digitCount;
         }
         return true;
     }
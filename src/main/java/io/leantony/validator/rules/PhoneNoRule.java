@@ -10,9 +10,10 @@ import java.util.stream.Collectors;
 /**
  * The type Phone no rule.
  */
-public class PhoneNoRule extends BaseRule {
+public class PhoneNoRule extends BaseRule implements CrossFieldRule {
     private final List<String> allowedRegions;
     private final String countryField;
+    private final FieldReference countryReference;
     @SuppressWarnings("FieldCanBeLocal")
     private final String defaultRegion = "KE"; // Default region is Kenya.
     private final PhoneNumberUtil phoneUtil = PhoneNumberUtil.getInstance();
@@ -22,7 +23,7 @@ public class PhoneNoRule extends BaseRule {
      *
      * @param parameter If null/empty, uses the default region ("KE").
      *                  If it contains commas and every token (after trimming)
-     *                  is present in CountryRule.VALID_COUNTRY_CODES, it's treated as a list of allowed regions.
+     *                  is a known code in CountryCodes, it's treated as a list of allowed regions.
      *                  Otherwise, the parameter is treated as a field name that provides the region code.
      */
     public PhoneNoRule(String parameter) {
@@ -36,7 +37,7 @@ public class PhoneNoRule extends BaseRule {
                         .map(String::trim)
                         .map(String::toUpperCase)
                         .collect(Collectors.toList());
-                boolean allCodes = CountryRule.VALID_COUNTRY_CODES.containsAll(tokens);
+                boolean allCodes = CountryCodes.allCodes().containsAll(tokens);
                 if (allCodes) {
                     this.allowedRegions = tokens;
                     this.countryField = null;
@@ -46,7 +47,7 @@ public class PhoneNoRule extends BaseRule {
                 }
             } else {
                 String paramUp = parameter.toUpperCase();
-                if (CountryRule.VALID_COUNTRY_CODES.contains(paramUp)) {
+                if (CountryCodes.isValid(paramUp)) {
                     this.allowedRegions = Collections.singletonList(paramUp);
                     this.countryField = null;
                 } else {
@@ -55,28 +56,39 @@ public class PhoneNoRule extends BaseRule {
                 }
             }
         }
+        this.countryReference = countryField != null ? FieldReference.of(countryField) : null;
     }
 
     @Override
     public boolean validate(String field, Object value, Map<String, Object> data) {
+        return validate(field, value, data, ValidationContext.ROOT);
+    }
+
+    @Override
+    public boolean validate(String field, Object value, Map<String, Object> data, ValidationContext context) {
         if (!(value instanceof String)) return false;
         String phoneStr = ((String) value).trim();
         if (phoneStr.isEmpty()) return false;
 
         if (allowedRegions != null && !allowedRegions.isEmpty()) {
-            return allowedRegions.stream().anyMatch(reg -> isValidPhoneForRegion(phoneStr, reg));
+            return allowedRegions.stream().anyMatch(reg -> isValidPhoneForRegion(phoneStr, CountryCodes.toAlpha2(reg)));
         } else {
             String region = defaultRegion;
             if (countryField != null) {
-                Object regionObj = data.get(countryField);
+                Object regionObj = countryReference.resolve(data, context);
                 if (regionObj instanceof String && !((String) regionObj).trim().isEmpty()) {
-                    region = convertToAlpha2(((String) regionObj).trim().toUpperCase());
+                    region = CountryCodes.toAlpha2(((String) regionObj).trim().toUpperCase());
                 }
             }
             return isValidPhoneForRegion(phoneStr, region);
         }
     }
 
+    @Override
+    public List<FieldReference> getReferences() {
+        return countryReference == null ? List.of() : List.of(countryReference);
+    }
+
     @Override
     public String getErrorMessage(String field, Object value, Map<String, Object> data) {
         if (allowedRegions != null && !allowedRegions.isEmpty()) {
@@ -97,32 +109,4 @@ public class PhoneNoRule extends BaseRule {
             return false;
         }
     }
-
-    /**
-     * Converts a given ISO country code token to its 2-letter version.
-     * If the token is already 2 letters, it is returned as-is.
-     * If it's 3 letters, this method iterates over ISO2 codes using Locale.getISOCountries()
-     * and compares the corresponding ISO3 code with the token.
-     *
-     * @param token The country code token (2 or 3 letters).
-     * @return The corresponding 2-letter code, or the token in uppercase if conversion is not possible.
-     */
-    private String convertToAlpha2(String token) {
-        token = token.toUpperCase();
-        if (token.length() == 2) {
-            return token;
-        } else if (token.length() == 3) {
-            for (String iso2 : Locale.getISOCountries()) {
-                try {
-                    String iso3 = new Locale("", iso2).getISO3Country().toUpperCase();
-                    if (iso3.equals(token)) {
-                        return iso2.toUpperCase();
-                    }
-                } catch (Exception e) {
-                    // Ignore and continue.
-                }
-            }
-        }
-        return token;
-    }
 }
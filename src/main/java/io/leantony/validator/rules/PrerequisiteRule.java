@@ -0,0 +1,11 @@
+package io.leantony.validator.rules;
+
+/**
+ * The interface Prerequisite rule.
+ * <p>
+ * Marks a presence or type check whose failure makes the remaining rules of the field meaningless
+ * (a missing value cannot meet a minimum length, a non-numeric value cannot be compared with a bound).
+ * When implicit bail is enabled on a schema, a field stops being validated after such a rule fails.
+ */
+public interface PrerequisiteRule extends ValidationRule {
+}
@@ -0,0 +1,88 @@
+package io.leantony.validator.rules;
+
+import java.util.Map;
+
+/**
+ * The referenced fields of one record, read once and remembered for the rest of its validation.
+ * <p>
+ * The conditional rules (requiredWith, requiredWithout, requiredIf and their variants) check whether the
+ * fields they refer to are filled. A schema with many such rules refers to the same fields over and over,
+ * so the schema creates one index per record and every rule asks it instead of reading the field again.
+ * Values are remembered in the slots the schema's {@link ReferenceTable} gave the references; references
+ * without a slot, such as those with wildcards, are read every time.
+ * <p>
+ * An index is also the context of the fields read from the root of the data. It is not thread-safe and
+ * is only used while its record is validated.
+ */
+public final class PresenceIndex implements ValidationContext {
+    // Stands in for a missing or null field, so that null can mean "not read yet".
+    private static final String MISSING = new String();
+
+    private final ReferenceTable references;
+    // One entry per slot of the schema, allocated on the first lookup.
+    private String[] texts;
+
+    /**
+     * Instantiates a new Presence index.
+     *
+     * @param references the references of the schema, which decide what can be remembered
+     */
+    public PresenceIndex(ReferenceTable references) {
+        this.references = references;
+    }
+
+    @Override
+    public int getDepth() {
+        return 0;
+    }
+
+    @Override
+    public String getName(int step) {
+        throw new IndexOutOfBoundsException(step);
+    }
+
+    @Override
+    public int getIndex(int step) {
+        throw new IndexOutOfBoundsException(step);
+    }
+
+    @Override
+    public Object getNode(int step) {
+        throw new IndexOutOfBoundsException(step);
+    }
+
+    @Override
+    public String getText(FieldReference reference, Map<String, Object> data) {
+        return getText(reference, data, this);
+    }
+
+    /**
+     * Reads a referenced field as trimmed text, remembering it if the reference has a slot.
+     *
+     * @param reference the referenced field
+     * @param data      the data of the record
+     * @param context   where the value being validated was found
+     * @return the trimmed text, or null if the field is missing or null
+     */
+    public String getText(FieldReference reference, Map<String, Object> data, ValidationContext context) {
+        int slot = references.slotOf(reference);
+        if (slot < 0) {
+            return read(reference, data, context);
+        }
+        if (texts == null) {
+            texts = new String[references.size()];
+        }
+        String text = texts[slot];
+        if (text == null) {
+            text = read(reference, data, context);
+            texts[slot] = text == null ? MISSING : text;
+            return text;
+        }
+        return text == MISSING ? null : text;
+    }
+
+    private static String read(FieldReference reference, Map<String, Object> data, ValidationContext context) {
+        Object value = reference.resolve(data, context);
+        return value == null ? null : value.toString().trim();
+    }
+}
@@ -0,0 +1,74 @@
+package io.leantony.validator.rules;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The fields referenced by the cross-field rules of one schema, each given a slot when the schema is compiled.
+ * <p>
+ * {@link PresenceIndex} remembers the value of a referenced field in the slot of its reference, so the table
+ * decides how much a record's index can hold. References with the same text share a slot. References with
+ * wildcards get none: their value depends on the value being validated, so they are read every time.
+ * A table is immutable once built.
+ */
+public final class ReferenceTable {
+    /**
+     * A table without references.
+     */
+    public static final ReferenceTable EMPTY = new ReferenceTable(Map.of());
+
+    private final Map<FieldReference, Integer> slots;
+
+    private ReferenceTable(Map<FieldReference, Integer> slots) {
+        this.slots = slots;
+    }
+
+    /**
+     * Numbers the references of the given rules.
+     *
+     * @param rules the rules of a schema; rules that are not {@link CrossFieldRule}s are ignored
+     * @return the table
+     */
+    public static ReferenceTable of(Iterable<? extends ValidationRule> rules) {
+        Map<FieldReference, Integer> slots = new HashMap<>();
+        for (ValidationRule rule : rules) {
+            if (rule instanceof CrossFieldRule crossField) {
+                for (FieldReference reference : crossField.getReferences()) {
+                    if (!reference.isRelative()) {
+                        slots.putIfAbsent(reference, slots.size());
+                    }
+                }
+            }
+        }
+        return slots.isEmpty() ? EMPTY : new ReferenceTable(slots);
+    }
+
+    /**
+     * Gets the number of slots.
+     *
+     * @return the size
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * Whether the table has no slots.
+     *
+     * @return true if no reference was numbered
+     */
+    public boolean isEmpty() {
+        return slots.isEmpty();
+    }
+
+    /**
+     * Gets the slot of a reference.
+     *
+     * @param reference the reference
+     * @return the slot, or -1 if the reference has none
+     */
+    int slotOf(FieldReference reference) {
+        Integer slot = slots.get(reference);
+        return slot == null ? -1 : slot;
+    }
+}
@@ -3,45 +3,112 @@ package io.leantony.validator.rules;
 import io.leantony.validator.lang.MessageRegistry;
 
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 /**
  * The type Regex rule.
+ * <p>
+ * Matching runs on the calling thread. To guard against catastrophic backtracking the input is
+ * wrapped in a {@link CharSequence} that checks a deadline while the matcher reads it, so a match
+ * that runs past the timeout is abandoned and the value is rejected.
  */
 public class RegexRule extends BaseRule {
-    // Hardcoded security parameters
-    private static final long TIMEOUT_MS = 100;
-    private static final int MAX_INPUT_LENGTH = 1024;
-    private static final TimeUnit TIME_UNIT = TimeUnit.MILLISECONDS;
+    // Security defaults, used by rules created without explicit limits
+    private static volatile long defaultTimeoutMillis = 100;
+    private static volatile int defaultMaxInputLength = 1024;
 
     private final Pattern pattern;
+    private final long timeoutMillis;
+    private final int maxInputLength;
 
     /**
-     * Instantiates a new Regex rule.
+     * Instantiates a new Regex rule using the default timeout and maximum input length.
      *
      * @param regex the regex
      */
     public RegexRule(String regex) {
+        this(regex, -1, -1);
+    }
+
+    /**
+     * Instantiates a new Regex rule.
+     *
+     * @param regex          the regex
+     * @param timeoutMillis  how long a single match may run, in milliseconds, or -1 for the default
+     * @param maxInputLength the longest value that will be matched, or -1 for the default; longer values fail
+     * @throws IllegalArgumentException if a limit is zero or negative other than -1
+     */
+    public RegexRule(String regex, long timeoutMillis, int maxInputLength) {
+        if (timeoutMillis <= 0 && timeoutMillis != -1) {
+            throw new IllegalArgumentException("Regex timeout must be positive, or -1 for the default");
+        }
+        if (maxInputLength <= 0 && maxInputLength != -1) {
+            throw new IllegalArgumentException("Regex max input length must be positive, or -1 for the default");
+        }
         this.pattern = Pattern.compile(regex);
+        this.timeoutMillis = timeoutMillis;
+        this.maxInputLength = maxInputLength;
+    }
+
+    /**
+     * Gets the default match timeout.
+     *
+     * @return the timeout in milliseconds
+     */
+    public static long getDefaultTimeoutMillis() {
+        return defaultTimeoutMillis;
+    }
+
+    /**
+     * Sets the match timeout of rules created without an explicit one.
+     *
+     * @param timeoutMillis the timeout in milliseconds
+     */
+    public static void setDefaultTimeoutMillis(long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("Regex timeout must be positive");
+        }
+        defaultTimeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Gets the default maximum input length.
+     *
+     * @return the maximum input length
+     */
+    public static int getDefaultMaxInputLength() {
+        return defaultMaxInputLength;
+    }
+
+    /**
+     * Sets the maximum input length of rules created without an explicit one.
+     *
+     * @param maxInputLength the maximum input length
+     */
+    public static void setDefaultMaxInputLength(int maxInputLength) {
+        if (maxInputLength <= 0) {
+            throw new IllegalArgumentException("Regex max input length must be positive");
+        }
+        defaultMaxInputLength = maxInputLength;
     }
 
     @Override
     public boolean validate(String field, Object value, Map<String, Object> data) {
-        if (value == null || value.toString().length() > MAX_INPUT_LENGTH) {
+        int maxLength = maxInputLength < 0 ? defaultMaxInputLength : maxInputLength;
+        if (value == null) {
             return false;
         }
-
         String input = value.toString();
-        CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(() -> pattern.matcher(input).matches())
-                .orTimeout(TIMEOUT_MS, TIME_UNIT);
+        if (input.length() > maxLength) {
+            return false;
+        }
 
+        long timeout = timeoutMillis < 0 ? defaultTimeoutMillis : timeoutMillis;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
         try {
-            return future.get();
-        } catch (ExecutionException | InterruptedException e) {
-            future.cancel(true);
+            return pattern.matcher(new DeadlineCharSequence(input, deadline)).matches();
+        } catch (MatchTimeoutException e) {
             return false;
         }
     }
@@ -50,4 +117,65 @@ public class RegexRule extends BaseRule {
     public String getErrorMessage(String field, Object value, Map<String, Object> data) {
         return MessageRegistry.getResolver().resolve("regex", field);
     }
+
+    /**
+     * A string that aborts the match once the deadline has passed.
+     * The clock is only read every {@link #CHECK_INTERVAL} character reads, which keeps the
+     * overhead negligible for ordinary matches.
+     */
+    private static final class DeadlineCharSequence implements CharSequence {
+        private static final int CHECK_INTERVAL = 1024;
+
+        private final String text;
+        private final int offset;
+        private final int length;
+        private final long deadline;
+        private int reads;
+
+        private DeadlineCharSequence(String text, long deadline) {
+            this(text, 0, text.length(), deadline);
+        }
+
+        private DeadlineCharSequence(String text, int offset, int length, long deadline) {
+            this.text = text;
+            this.offset = offset;
+            this.length = length;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (++reads == CHECK_INTERVAL) {
+                reads = 0;
+                if (System.nanoTime() - deadline > 0) {
+                    throw new MatchTimeoutException();
+                }
+            }
+            return text.charAt(offset + index);
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new DeadlineCharSequence(text, offset + start, end - start, deadline);
+        }
+
+        @Override
+        public String toString() {
+            return text.substring(offset, offset + length);
+        }
+    }
+
+    /**
+     * Thrown from inside the matcher when the deadline has passed; carries no stack trace.
+     */
+    private static final class MatchTimeoutException extends RuntimeException {
+        private MatchTimeoutException() {
+            super("Regex match timed out", null, false, false);
+        }
+    }
 }
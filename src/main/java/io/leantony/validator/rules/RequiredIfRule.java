@@ -2,14 +2,16 @@ package io.leantony.validator.rules;
 
 import io.leantony.validator.lang.MessageRegistry;
 
+import java.util.List;
 import java.util.Map;
 
 /**
  * The type Required if rule.
  */
-public class RequiredIfRule extends BaseRule {
+public class RequiredIfRule extends BaseRule implements PrerequisiteRule, CrossFieldRule {
     private final String key;
     private final String expectedValue;
+    private final FieldReference reference;
 
     /**
      * Instantiates a new Required if rule.
@@ -26,17 +28,28 @@ public class RequiredIfRule extends BaseRule {
         if (key.isEmpty() || expectedValue.isEmpty()) {
             throw new IllegalArgumentException("Both key and expected value must be non-empty in RequiredIfRule.");
         }
+        reference = FieldReference.of(key);
     }
 
     @Override
     public boolean validate(String field, Object value, Map<String, Object> data) {
-        Object condition = data.get(key);
-        if (condition != null && condition.toString().trim().equalsIgnoreCase(expectedValue)) {
+        return validate(field, value, data, ValidationContext.ROOT);
+    }
+
+    @Override
+    public boolean validate(String field, Object value, Map<String, Object> data, ValidationContext context) {
+        String condition = context.getText(reference, data);
+        if (condition != null && condition.equalsIgnoreCase(expectedValue)) {
             return value != null && !value.toString().trim().isEmpty();
         }
         return true;
     }
 
+    @Override
+    public List<FieldReference> getReferences() {
+        return List.of(reference);
+    }
+
     @Override
     public String getErrorMessage(String field, Object value, Map<String, Object> data) {
         return MessageRegistry.getResolver().resolve("requiredIf", field, key, expectedValue);
@@ -5,7 +5,7 @@ import java.util.Map;
 /**
  * The type Required rule.
  */
-public class RequiredRule extends BaseRule {
+public class RequiredRule extends BaseRule implements PrerequisiteRule {
     @Override
     public boolean validate(String field, Object value, Map<String, Object> data) {
         return value != null && !value.toString().trim().isEmpty();
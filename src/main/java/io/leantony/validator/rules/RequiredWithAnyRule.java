@@ -10,8 +10,9 @@ import java.util.stream.Collectors;
 /**
  * The type Required with any rule.
  */
-public class RequiredWithAnyRule extends BaseRule {
+public class RequiredWithAnyRule extends BaseRule implements PrerequisiteRule, CrossFieldRule {
     private final List<String> otherFields;
+    private final FieldReference[] references;
 
     /**
      * Instantiates a new Required with any rule.
@@ -25,21 +26,30 @@ public class RequiredWithAnyRule extends BaseRule {
         otherFields = Arrays.stream(parameter.split(","))
                 .map(String::trim)
                 .collect(Collectors.toList());
+        references = otherFields.stream().map(FieldReference::of).toArray(FieldReference[]::new);
     }
 
     @Override
     public boolean validate(String field, Object value, Map<String, Object> data) {
-        // Check if ANY of the specified fields is present and non-empty.
-        boolean anyPresent = otherFields.stream().anyMatch(f -> {
-            Object v = data.get(f);
-            return v != null && !v.toString().trim().isEmpty();
-        });
-        if (anyPresent) {
-            return value != null && !value.toString().trim().isEmpty();
+        return validate(field, value, data, ValidationContext.ROOT);
+    }
+
+    @Override
+    public boolean validate(String field, Object value, Map<String, Object> data, ValidationContext context) {
+        // The field is required if ANY of the specified fields is present and non-empty.
+        for (FieldReference reference : references) {
+            if (context.isFilled(reference, data)) {
+                return value != null && !value.toString().trim().isEmpty();
+            }
         }
         return true;
     }
 
+    @Override
+    public List<FieldReference> getReferences() {
+        return List.of(references);
+    }
+
     @Override
     public String getErrorMessage(String field, Object value, Map<String, Object> data) {
         return MessageRegistry.getResolver().resolve("requiredWithAny", field, otherFields);
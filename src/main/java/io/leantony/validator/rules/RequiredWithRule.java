@@ -10,8 +10,9 @@ import java.util.stream.Collectors;
 /**
  * The type Required with rule.
  */
-public class RequiredWithRule extends BaseRule {
+public class RequiredWithRule extends BaseRule implements PrerequisiteRule, CrossFieldRule {
     private final List<String> otherFields;
+    private final FieldReference[] references;
 
     /**
      * Instantiates a new Required with rule.
@@ -25,20 +26,28 @@ public class RequiredWithRule extends BaseRule {
         otherFields = Arrays.stream(parameter.split(","))
                 .map(String::trim)
                 .collect(Collectors.toList());
+        references = otherFields.stream().map(FieldReference::of).toArray(FieldReference[]::new);
     }
 
     @Override
     public boolean validate(String field, Object value, Map<String, Object> data) {
-        // Check if ALL specified fields are present and non-empty.
-        boolean allPresent = otherFields.stream().allMatch(f -> {
-            Object v = data.get(f);
-            return v != null && !v.toString().trim().isEmpty();
-        });
-        // If condition met, then current field is required.
-        if (allPresent) {
-            return value != null && !value.toString().trim().isEmpty();
+        return validate(field, value, data, ValidationContext.ROOT);
+    }
+
+    @Override
+    public boolean validate(String field, Object value, Map<String, Object> data, ValidationContext context) {
+        // The field is required only if ALL specified fields are present and non-empty.
+        for (FieldReference reference : references) {
+            if (!context.isFilled(reference, data)) {
+                return true;
+            }
         }
-        return true;
+        return value != null && !value.toString().trim().isEmpty();
+    }
+
+    @Override
+    public List<FieldReference> getReferences() {
+        return List.of(references);
     }
 
     @Override
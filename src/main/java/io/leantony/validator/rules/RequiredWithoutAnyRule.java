@@ -10,8 +10,9 @@ import java.util.stream.Collectors;
 /**
  * The type Required without any rule.
  */
-public class RequiredWithoutAnyRule extends BaseRule {
+public class RequiredWithoutAnyRule extends BaseRule implements PrerequisiteRule, CrossFieldRule {
     private final List<String> otherFields;
+    private final FieldReference[] references;
 
     /**
      * Instantiates a new Required without any rule.
@@ -25,21 +26,30 @@ public class RequiredWithoutAnyRule extends BaseRule {
         otherFields = Arrays.stream(parameter.split(","))
                 .map(String::trim)
                 .collect(Collectors.toList());
+        references = otherFields.stream().map(FieldReference::of).toArray(FieldReference[]::new);
     }
 
     @Override
     public boolean validate(String field, Object value, Map<String, Object> data) {
-        // Check if ANY of the specified fields are absent or empty.
-        boolean anyAbsent = otherFields.stream().anyMatch(f -> {
-            Object v = data.get(f);
-            return v == null || v.toString().trim().isEmpty();
-        });
-        if (anyAbsent) {
-            return value != null && !value.toString().trim().isEmpty();
+        return validate(field, value, data, ValidationContext.ROOT);
+    }
+
+    @Override
+    public boolean validate(String field, Object value, Map<String, Object> data, ValidationContext context) {
+        // The field is required if ANY of the specified fields is absent or empty.
+        for (FieldReference reference : references) {
+            if (!context.isFilled(reference, data)) {
+                return value != null && !value.toString().trim().isEmpty();
+            }
         }
         return true;
     }
 
+    @Override
+    public List<FieldReference> getReferences() {
+        return List.of(references);
+    }
+
     @Override
     public String getErrorMessage(String field, Object value, Map<String, Object> data) {
         return MessageRegistry.getResolver().resolve("requiredWithoutAny", field, otherFields);
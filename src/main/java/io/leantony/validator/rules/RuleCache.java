@@ -0,0 +1,176 @@
+package io.leantony.validator.rules;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, concurrent cache of rule outcomes used by {@link MemoizingRule}.
+ * <p>
+ * Entries are keyed on the rule parameter and the validated value. An expired entry is removed when it is
+ * next looked up. Once the cache is full, every expired entry is removed first; if that does not make room,
+ * the least recently used entries are evicted, an eighth of the cache at a time so that the sweep is not
+ * repeated on every new value. Hit and miss counts are kept so the cache can be sized from production traffic.
+ */
+public final class RuleCache {
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<Key, Outcome> outcomes = new ConcurrentHashMap<>();
+    // Orders the uses of entries for eviction.
+    private final AtomicLong clock = new AtomicLong();
+    private final Object evictionLock = new Object();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Instantiates a new Rule cache without expiry.
+     *
+     * @param maxSize the maximum number of outcomes to keep
+     */
+    public RuleCache(int maxSize) {
+        this(maxSize, null);
+    }
+
+    /**
+     * Instantiates a new Rule cache.
+     *
+     * @param maxSize the maximum number of outcomes to keep
+     * @param ttl     how long an outcome stays valid, or null to keep it until evicted
+     */
+    public RuleCache(int maxSize, Duration ttl) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Rule cache size must be positive");
+        }
+        if (ttl != null && (ttl.isNegative() || ttl.isZero())) {
+            throw new IllegalArgumentException("Rule cache time-to-live must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl == null ? 0 : ttl.toNanos();
+    }
+
+    /**
+     * Returns the cached outcome.
+     *
+     * @param parameter the rule parameter
+     * @param value     the validated value
+     * @return the outcome, or null if it is not cached or has expired
+     */
+    Boolean get(String parameter, Object value) {
+        Key key = new Key(parameter, value);
+        Outcome outcome = outcomes.get(key);
+        if (outcome != null && outcome.isExpired(ttlNanos, System.nanoTime())) {
+            outcomes.remove(key, outcome);
+            outcome = null;
+        }
+        if (outcome == null) {
+            misses.increment();
+            return null;
+        }
+        outcome.lastUsed = clock.incrementAndGet();
+        hits.increment();
+        return outcome.valid;
+    }
+
+    /**
+     * Stores an outcome.
+     *
+     * @param parameter the rule parameter
+     * @param value     the validated value
+     * @param valid     the outcome
+     */
+    void put(String parameter, Object value, boolean valid) {
+        if (outcomes.size() >= maxSize) {
+            evict();
+        }
+        outcomes.put(new Key(parameter, value), new Outcome(valid, System.nanoTime() + ttlNanos, clock.incrementAndGet()));
+    }
+
+    private void evict() {
+        synchronized (evictionLock) {
+            if (outcomes.size() < maxSize) {
+                // Another thread made room meanwhile.
+                return;
+            }
+            if (ttlNanos != 0) {
+                long now = System.nanoTime();
+                outcomes.values().removeIf(outcome -> outcome.isExpired(ttlNanos, now));
+            }
+            int excess = outcomes.size() - (maxSize - Math.max(1, maxSize / 8));
+            if (excess <= 0) {
+                return;
+            }
+            // Sort on a snapshot of the use times, which other threads keep updating.
+            List<Use> uses = new ArrayList<>(outcomes.size());
+            outcomes.forEach((key, outcome) -> uses.add(new Use(key, outcome, outcome.lastUsed)));
+            uses.sort(Comparator.comparingLong(Use::lastUsed));
+            for (int i = 0; i < excess && i < uses.size(); i++) {
+                Use use = uses.get(i);
+                outcomes.remove(use.key(), use.outcome());
+            }
+        }
+    }
+
+    /**
+     * Gets the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that had to run the rule.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of cached outcomes.
+     *
+     * @return the size
+     */
+    public int size() {
+        return outcomes.size();
+    }
+
+    /**
+     * Removes every cached outcome; the counters are kept.
+     */
+    public void clear() {
+        outcomes.clear();
+    }
+
+    private record Key(String parameter, Object value) {
+    }
+
+    private record Use(Key key, Outcome outcome, long lastUsed) {
+    }
+
+    /**
+     * A cached outcome and when it was last used.
+     */
+    private static final class Outcome {
+        private final boolean valid;
+        private final long expiresAt;
+        private volatile long lastUsed;
+
+        private Outcome(boolean valid, long expiresAt, long lastUsed) {
+            this.valid = valid;
+            this.expiresAt = expiresAt;
+            this.lastUsed = lastUsed;
+        }
+
+        private boolean isExpired(long ttlNanos, long now) {
+            return ttlNanos != 0 && now - expiresAt > 0;
+        }
+    }
+}
@@ -2,13 +2,15 @@ package io.leantony.validator.rules;
 
 import io.leantony.validator.lang.MessageRegistry;
 
+import java.util.List;
 import java.util.Map;
 
 /**
  * The type Same or equal rule.
  */
-public class SameOrEqualRule extends BaseRule {
+public class SameOrEqualRule extends BaseRule implements CrossFieldRule {
     private final String otherField;
+    private final FieldReference other;
 
     /**
      * Instantiates a new Same or equal rule.
@@ -17,17 +19,28 @@ public class SameOrEqualRule extends BaseRule {
      */
     public SameOrEqualRule(String otherField) {
         this.otherField = otherField;
+        this.other = FieldReference.of(otherField);
     }
 
     @Override
     public boolean validate(String field, Object value, Map<String, Object> data) {
-        Object other = data.get(otherField);
+        return validate(field, value, data, ValidationContext.ROOT);
+    }
+
+    @Override
+    public boolean validate(String field, Object value, Map<String, Object> data, ValidationContext context) {
+        Object other = this.other.resolve(data, context);
         if (value == null) {
             return other == null;
         }
         return value.equals(other);
     }
 
+    @Override
+    public List<FieldReference> getReferences() {
+        return List.of(other);
+    }
+
     @Override
     public String getErrorMessage(String field, Object value, Map<String, Object> data) {
         return MessageRegistry.getResolver().resolve("sameOrEqual", field, otherField);
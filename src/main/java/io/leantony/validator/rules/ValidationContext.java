@@ -0,0 +1,98 @@
+package io.leantony.validator.rules;
+
+import java.util.Map;
+
+/**
+ * Where in the data the value being validated was found.
+ * <p>
+ * The position is described as the steps taken from the root of the data: each step either followed a map key
+ * or a list index, and reached a node. For a key such as {@code items.*.endDate} validated at
+ * {@code items[2].endDate} the steps are {@code items}, {@code [2]} and {@code endDate}. Cross-field rules use it
+ * to resolve a {@link FieldReference} from the nearest shared node instead of from the root.
+ * <p>
+ * A context is only valid during the call it was passed to, unless it was captured for an error message.
+ */
+public interface ValidationContext {
+    /**
+     * The context of a value read directly from the root of the data, with no steps recorded.
+     */
+    ValidationContext ROOT = new ValidationContext() {
+        @Override
+        public int getDepth() {
+            return 0;
+        }
+
+        @Override
+        public String getName(int step) {
+            throw new IndexOutOfBoundsException(step);
+        }
+
+        @Override
+        public int getIndex(int step) {
+            throw new IndexOutOfBoundsException(step);
+        }
+
+        @Override
+        public Object getNode(int step) {
+            throw new IndexOutOfBoundsException(step);
+        }
+    };
+
+    /**
+     * Gets the number of recorded steps.
+     *
+     * @return the depth
+     */
+    int getDepth();
+
+    /**
+     * Gets the map key followed by a step.
+     *
+     * @param step the step, from 0
+     * @return the key, or null if the step followed a list index
+     */
+    String getName(int step);
+
+    /**
+     * Gets the list index followed by a step.
+     *
+     * @param step the step, from 0
+     * @return the index, or -1 if the step followed a map key
+     */
+    int getIndex(int step);
+
+    /**
+     * Gets the node a step reached.
+     *
+     * @param step the step, from 0
+     * @return the map, list or value reached
+     */
+    Object getNode(int step);
+
+    /**
+     * Reads a referenced field as trimmed text, the way the conditional rules compare it.
+     * Contexts created by a schema remember the answer for references that do not depend on the value
+     * being validated, so each such field is read once per record.
+     *
+     * @param reference the referenced field
+     * @param data      the data
+     * @return the trimmed text, or null if the field is missing or null
+     */
+    default String getText(FieldReference reference, Map<String, Object> data) {
+        Object value = reference.resolve(data, this);
+        return value == null ? null : value.toString().trim();
+    }
+
+    /**
+     * Whether a referenced field is present: not null and not blank.
+     *
+     * @param reference the referenced field
+     * @param data      the data
+     * @return true if the field is filled
+     * @see #getText(FieldReference, Map)
+     */
+    default boolean isFilled(FieldReference reference, Map<String, Object> data) {
+        String text = getText(reference, data);
+        return text != null && !text.isEmpty();
+    }
+}
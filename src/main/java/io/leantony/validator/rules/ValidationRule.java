@@ -16,6 +16,21 @@ public interface ValidationRule {
      */
     boolean validate(String field, Object value, Map<String, Object> data);
 
+    /**
+     * Validates the value for the given field, knowing where in the data it was found.
+     * Cross-field rules override this to resolve the fields they refer to relative to the value;
+     * other rules keep the default, which ignores the context.
+     *
+     * @param field   the field name (used in error messages)
+     * @param value   the value to validate
+     * @param data    the complete data map (for cross‑field validations)
+     * @param context where the value was found
+     * @return true if valid; false otherwise.
+     */
+    default boolean validate(String field, Object value, Map<String, Object> data, ValidationContext context) {
+        return validate(field, value, data);
+    }
+
     /**
      * Returns the error message for the field when validation fails.
      *
@@ -25,4 +40,17 @@ public interface ValidationRule {
      * @return the error message
      */
     String getErrorMessage(String field, Object value, Map<String, Object> data);
+
+    /**
+     * Returns the error message for the field when validation fails, knowing where in the data the value was found.
+     *
+     * @param field   the field
+     * @param value   the value
+     * @param data    the data
+     * @param context where the value was found
+     * @return the error message
+     */
+    default String getErrorMessage(String field, Object value, Map<String, Object> data, ValidationContext context) {
+        return getErrorMessage(field, value, data);
+    }
 }
@@ -0,0 +1,122 @@
+package io.leantony.validator.rules;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+
+/**
+ * Orders two values the way the comparison rules do: as numbers when both are numbers,
+ * otherwise as dates in a given pattern.
+ * <p>
+ * Each operand is classified and converted once: integral values are compared as longs,
+ * other numbers as BigDecimals, and dates are parsed with a cached {@link DatePattern}.
+ * No exceptions are thrown for values of the wrong type.
+ */
+final class ValueComparison {
+    /**
+     * Returned by the comparisons when the values are not both of the compared type.
+     */
+    static final int INCOMPARABLE = Integer.MIN_VALUE;
+
+    /**
+     * What two values were compared as, which decides the message of a failed comparison.
+     */
+    enum Kind {
+        NUMBERS,
+        DATES
+    }
+
+    private ValueComparison() {
+    }
+
+    /**
+     * Compares two values as numbers.
+     *
+     * @param a the first value
+     * @param b the second value
+     * @return -1, 0 or 1 as a is less than, equal to or greater than b, or {@link #INCOMPARABLE} if either is not a number
+     */
+    static int compareNumbers(Object a, Object b) {
+        if (a == null || b == null) {
+            return INCOMPARABLE;
+        }
+        Object first = toNumber(a);
+        if (first == null) {
+            return INCOMPARABLE;
+        }
+        Object second = toNumber(b);
+        if (second == null) {
+            return INCOMPARABLE;
+        }
+        if (first instanceof Long x && second instanceof Long y) {
+            return Long.compare(x, y);
+        }
+        return Integer.signum(toBigDecimal(first).compareTo(toBigDecimal(second)));
+    }
+
+    /**
+     * Compares two values as dates.
+     *
+     * @param a       the first value
+     * @param b       the second value
+     * @param pattern the date pattern
+     * @return -1, 0 or 1 as a is before, equal to or after b, or {@link #INCOMPARABLE} if either is not a date
+     */
+    static int compareDates(Object a, Object b, DatePattern pattern) {
+        if (a == null || b == null) {
+            return INCOMPARABLE;
+        }
+        LocalDateTime firstDate = pattern.parse(a.toString());
+        if (firstDate == null) {
+            return INCOMPARABLE;
+        }
+        LocalDateTime secondDate = pattern.parse(b.toString());
+        if (secondDate == null) {
+            return INCOMPARABLE;
+        }
+        return Integer.signum(firstDate.compareTo(secondDate));
+    }
+
+    /**
+     * Whether both values are numbers.
+     *
+     * @param a the first value
+     * @param b the second value
+     * @return true if both are numbers
+     */
+    static boolean areNumbers(Object a, Object b) {
+        return a != null && b != null && toNumber(a) != null && toNumber(b) != null;
+    }
+
+    /**
+     * Returns the value as a Long or BigDecimal, or null if it is not a number.
+     */
+    private static Object toNumber(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof BigDecimal) {
+            return value;
+        }
+        if (value instanceof BigInteger integer) {
+            return new BigDecimal(integer);
+        }
+        String text = value.toString();
+        if (NumberScanner.isSmallLong(text)) {
+            return NumberScanner.parseSmallLong(text);
+        }
+        if (!NumberScanner.isDecimal(text)) {
+            return null;
+        }
+        try {
+            return new BigDecimal(text);
+        } catch (NumberFormatException e) {
+            // The exponent does not fit in an int.
+            return null;
+        }
+    }
+
+    private static BigDecimal toBigDecimal(Object number) {
+        return number instanceof Long value ? BigDecimal.valueOf(value) : (BigDecimal) number;
+    }
+}
@@ -0,0 +1,127 @@
+package io.leantony.validator.rules;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The listed values of an {@link InRule} or {@link NotInRule}, prepared once for constant-time lookups.
+ * <p>
+ * Strings are kept in a hash set (lower-cased for {@link MatchMode#IGNORE_CASE}). Integral values are
+ * also kept in a sorted array so that Integer and Long values are looked up without converting them to
+ * strings. In {@link MatchMode#NUMERIC} mode other numbers are compared as BigDecimals without trailing zeros.
+ */
+final class ValueSet {
+    private final MatchMode mode;
+    private final Set<String> strings;
+    private final Set<BigDecimal> decimals;
+    private final long[] integers;
+    private final String joined;
+
+    /**
+     * Parses a comma-separated list of values.
+     *
+     * @param parameter the values, e.g. "apple, banana, orange"
+     * @param mode      how values are compared
+     */
+    ValueSet(String parameter, MatchMode mode) {
+        List<String> values = Arrays.asList(parameter.split("\\s*,\\s*"));
+        this.mode = mode;
+        this.joined = String.join(", ", values);
+        Set<String> strings = new HashSet<>();
+        Set<BigDecimal> decimals = new HashSet<>();
+        long[] integers = new long[values.size()];
+        int integerCount = 0;
+        for (String value : values) {
+            switch (mode) {
+                case EXACT -> strings.add(value);
+                case IGNORE_CASE -> strings.add(value.toLowerCase(Locale.ROOT));
+                case NUMERIC -> {
+                    if (!NumberScanner.isDecimal(value)) {
+                        throw new IllegalArgumentException("Not a number: " + value);
+                    }
+                    BigDecimal decimal = new BigDecimal(value).stripTrailingZeros();
+                    decimals.add(decimal);
+                    if (decimal.scale() <= 0 && decimal.toBigInteger().bitLength() < Long.SIZE) {
+                        integers[integerCount++] = decimal.longValue();
+                    }
+                }
+            }
+            if (mode != MatchMode.NUMERIC) {
+                // Only integers written the way Long.toString writes them can match an Integer or Long exactly.
+                Long number = toCanonicalLong(value);
+                if (number != null) {
+                    integers[integerCount++] = number;
+                }
+            }
+        }
+        this.strings = Set.copyOf(strings);
+        this.decimals = Set.copyOf(decimals);
+        this.integers = Arrays.copyOf(integers, integerCount);
+        Arrays.sort(this.integers);
+    }
+
+    private static Long toCanonicalLong(String value) {
+        if (value.isEmpty() || value.length() > 20) {
+            return null;
+        }
+        try {
+            long number = Long.parseLong(value);
+            return Long.toString(number).equals(value) ? number : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Whether the value is one of the listed values.
+     *
+     * @param value a non-null value
+     * @return true if it is listed
+     */
+    boolean contains(Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return Arrays.binarySearch(integers, ((Number) value).longValue()) >= 0;
+        }
+        return switch (mode) {
+            case EXACT -> strings.contains(value.toString());
+            case IGNORE_CASE -> strings.contains(value.toString().toLowerCase(Locale.ROOT));
+            case NUMERIC -> containsNumber(value);
+        };
+    }
+
+    private boolean containsNumber(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimals.contains(decimal.stripTrailingZeros());
+        }
+        if (value instanceof BigInteger integer) {
+            return decimals.contains(new BigDecimal(integer).stripTrailingZeros());
+        }
+        String text = value.toString();
+        if (NumberScanner.isSmallLong(text)) {
+            return Arrays.binarySearch(integers, NumberScanner.parseSmallLong(text)) >= 0;
+        }
+        if (!NumberScanner.isDecimal(text)) {
+            return false;
+        }
+        try {
+            return decimals.contains(new BigDecimal(text).stripTrailingZeros());
+        } catch (NumberFormatException e) {
+            // The exponent does not fit in an int.
+            return false;
+        }
+    }
+
+    /**
+     * Gets the listed values joined for error messages.
+     *
+     * @return the values separated by ", "
+     */
+    String joined() {
+        return joined;
+    }
+}
@@ -0,0 +1,248 @@
+package io.leantony.validator;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.leantony.validator.rules.BaseRule;
+import io.leantony.validator.rules.ValidationRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledSchemaTest {
+
+    private final CompiledSchema schema = ValidatorBuilder.compile(Map.of(
+            "name", "required|alpha",
+            "email", "optional|email"
+    ));
+
+    @Test
+    void validateReturnsIndependentResultsPerPayload() {
+        ValidationResult invalid = schema.validate(data("John123", "not-an-email"));
+        ValidationResult valid = schema.validate(data("John", null));
+
+        assertFalse(invalid.isValid());
+        assertEquals(2, invalid.getErrors().size());
+        assertTrue(valid.isValid(), "Expected no errors, but got: " + valid.getErrors());
+        assertEquals(2, invalid.getErrors().size(), "An earlier result must not change when the schema is reused.");
+    }
+
+    @Test
+    void schemaCanBeSharedBetweenThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ValidationResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                boolean valid = i % 2 == 0;
+                futures.add(executor.submit(() -> schema.validate(valid ? data("Jane", "jane@example.com") : data("", "x"))));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                ValidationResult result = futures.get(i).get();
+                assertEquals(i % 2 == 0, result.isValid(), "Unexpected result for payload " + i + ": " + result.getErrors());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void wildcardErrorsReportConcretePaths() {
+        CompiledSchema itemsSchema = ValidatorBuilder.compile(Map.of(
+                "items[*].sku", "required|alphanumeric",
+                "meta.*", "required"
+        ));
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("items", List.of(Map.of("sku", "A1"), Map.of("sku", "B-2"), Map.of("sku", "C3")));
+        payload.put("meta", Map.of("source", ""));
+
+        List<String> errors = itemsSchema.validate(payload).getErrors();
+
+        assertEquals(2, errors.size(), "Unexpected errors: " + errors);
+        assertTrue(errors.contains("items[1].sku must contain only letters and digits."));
+        assertTrue(errors.contains("meta.source is required."));
+    }
+
+    @Test
+    void wildcardRulesReceiveTheRuleKeyWhileValidating() {
+        List<String> seenFields = new ArrayList<>();
+        Map<String, List<ValidationRule>> rules = Map.of("items.*", List.of(new BaseRule() {
+            @Override
+            public boolean validate(String field, Object value, Map<String, Object> data) {
+                seenFields.add(field);
+                return true;
+            }
+
+            @Override
+            public String getErrorMessage(String field, Object value, Map<String, Object> data) {
+                return field + " is invalid.";
+            }
+        }));
+
+        Validator validator = new Validator(Map.of("items", List.of("a", "b")), rules);
+
+        assertTrue(validator.validate());
+        assertEquals(List.of("items.*", "items.*"), seenFields);
+    }
+
+    @Test
+    void stopOnFirstFailureReportsOnlyTheFirstError() {
+        CompiledSchema failFast = ValidatorBuilder.compile(Map.of("users[*].email", "required|email"))
+                .withStopOnFirstFailure(true);
+        Map<String, Object> payload = Map.of("users", List.of(Map.of("email", "x"), Map.of("email", "y")));
+
+        ValidationResult result = failFast.validate(payload);
+
+        assertFalse(result.isValid());
+        assertEquals(List.of("users[0].email must be a valid email address."), result.getErrors());
+    }
+
+    @Test
+    void implicitBailSkipsRulesAfterFailedPrerequisite() {
+        CompiledSchema lenient = ValidatorBuilder.compile(Map.of("age", "required|numeric|min:18"));
+        CompiledSchema bailing = lenient.withImplicitBail(true);
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("age", "abc");
+
+        assertEquals(2, lenient.validate(payload).getErrors().size());
+        assertEquals(List.of("age must be numeric."), bailing.validate(payload).getErrors());
+        assertFalse(lenient.isImplicitBail(), "Withers must not change the original schema.");
+    }
+
+    @Test
+    void jsonParserGivesSameErrorsAsBoundPayload() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        CompiledSchema orderSchema = ValidatorBuilder.compile(Map.of(
+                "reference", "required|alphanumeric",
+                "lines[*].sku", "required",
+                "lines[*].quantity", "numeric|min:1",
+                "contact.email", "requiredWith:reference|email",
+                "notes", "different:reference"
+        ));
+        String json = """
+                {"reference":"R-1","notes":"R-1","attachments":[{"data":"...","size":10}],
+                 "contact":{"email":"nope","phone":"0700"},
+                 "lines":[{"sku":"A","quantity":2},{"sku":"","quantity":0,"meta":{"x":[1]}}]}""";
+
+        List<String> expected = orderSchema.validate(mapper.readValue(json, Map.class)).getErrors();
+        ValidationResult streamed;
+        try (JsonParser parser = mapper.createParser(json)) {
+            streamed = orderSchema.validate(parser);
+        }
+
+        assertEquals(5, expected.size(), "Unexpected errors: " + expected);
+        assertEquals(expected, streamed.getErrors());
+    }
+
+    @Test
+    void jsonParserKeepsOnlyFieldsReadByCrossFieldRules() throws Exception {
+        List<Map<String, Object>> seen = new ArrayList<>();
+        ValidationRule capture = new BaseRule() {
+            @Override
+            public boolean validate(String field, Object value, Map<String, Object> data) {
+                seen.add(data);
+                return true;
+            }
+
+            @Override
+            public String getErrorMessage(String field, Object value, Map<String, Object> data) {
+                return field;
+            }
+        };
+        CompiledSchema literals = ValidatorBuilder.compile(Map.of(
+                "status", "in:archive,draft",
+                "code", "regex:^[a-z]+$",
+                "end", "afterOrEqual:start"
+        ));
+        Map<String, List<ValidationRule>> rules = new HashMap<>(literals.getRules());
+        rules.put("status", List.of(rules.get("status").get(0), capture));
+        String json = """
+                {"status":"draft","code":"ab","archive":{"rows":[1,2,3]},"draft":[{"x":1}],
+                 "start":"2024-01-01","end":"2024-02-01"}""";
+
+        ValidationResult result;
+        try (JsonParser parser = new ObjectMapper().createParser(json)) {
+            result = new CompiledSchema(rules).validate(parser);
+        }
+
+        assertTrue(result.isValid(), "Unexpected errors: " + result.getErrors());
+        assertEquals(Set.of("status", "code", "start", "end"), seen.get(0).keySet());
+    }
+
+    @Test
+    void listenerSeesEveryRuleEvaluation() {
+        List<String> events = new ArrayList<>();
+        ValidationListener listener = new ValidationListener() {
+            @Override
+            public void validationStarted(Map<String, Object> data) {
+                events.add("start");
+            }
+
+            @Override
+            public void ruleEvaluated(String field, String rule, boolean passed, long elapsedNanos) {
+                assertTrue(elapsedNanos >= 0);
+                events.add(field + ":" + rule + "=" + passed);
+            }
+
+            @Override
+            public void validationFinished(ValidationResult result, long elapsedNanos) {
+                events.add("finish:" + result.size());
+            }
+        };
+        CompiledSchema observed = ValidatorBuilder.compile(Map.of("items.*.sku", "required|alpha"))
+                .withImplicitBail(true)
+                .withListener(listener);
+
+        ValidationResult result = observed.validate(Map.of("items", List.of(Map.of("sku", "AB"), Map.of("sku", ""))));
+
+        assertEquals(1, result.size());
+        assertTrue(observed.isImplicitBail());
+        assertEquals(List.of("start",
+                "items.*.sku:required=true", "items.*.sku:alpha=true",
+                "items.*.sku:required=false",
+                "finish:1"), events);
+        assertNull(observed.withListener(null).getListener());
+    }
+
+    @Test
+    void crossFieldRulesCompareEachElementWithItsSiblings() {
+        CompiledSchema periods = ValidatorBuilder.compile(Map.of(
+                "items.*.endDate", "afterOrEqual:items.*.startDate",
+                "items[*].confirm", "sameOrEqual:items.*.code",
+                "items.*.phone", "phoneno:items.*.country|requiredWith:billing.country",
+                "items.*.quantity", "beforeOrEqual:items.*.stock"
+        ));
+        Map<String, Object> data = Map.of(
+                "billing", Map.of("country", "KE"),
+                "items", List.of(
+                        Map.of("startDate", "2025-01-01", "endDate", "2025-02-01", "code", "A", "confirm", "A",
+                                "country", "KE", "phone", "0712345678", "quantity", 2, "stock", 5),
+                        Map.of("startDate", "2025-03-01", "endDate", "2025-02-01", "code", "B", "confirm", "A",
+                                "country", "US", "phone", "0712345678", "quantity", 6, "stock", 5)));
+
+        ValidationResult result = periods.validate(data);
+
+        assertEquals(Set.of("items[1].endDate must be after or equal to items.*.startDate (using format yyyy-MM-dd).",
+                        "items[1].confirm must be equal to items.*.code.",
+                        "items[1].phone must be a valid phone number based on the country code provided in the items.*.country field.",
+                        "items[1].quantity must be less than or equal to items.*.stock."),
+                Set.copyOf(result.getErrors()));
+    }
+
+    private static Map<String, Object> data(String name, String email) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", name);
+        data.put("email", email);
+        return data;
+    }
+}
@@ -0,0 +1,49 @@
+package io.leantony.validator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldPathTest {
+
+    private final Map<String, Object> data = Map.of(
+            "email", "john@example.com",
+            "users", List.of(Map.of("email", "a@example.com"), Map.of("email", "b@example.com")),
+            "settings", Map.of("preferences", Map.of("theme", "dark"))
+    );
+
+    @Test
+    void resolvesPlainAndNestedNames() {
+        assertEquals("john@example.com", FieldPath.compile("email").resolve(data));
+        assertEquals("dark", FieldPath.compile("settings.preferences.theme").resolve(data));
+    }
+
+    @Test
+    void resolvesFixedIndexes() {
+        assertEquals("b@example.com", FieldPath.compile("users[1].email").resolve(data));
+        assertNull(FieldPath.compile("users[2].email").resolve(data));
+    }
+
+    @Test
+    void missingSegmentsResolveToNull() {
+        assertNull(FieldPath.compile("settings.missing.theme").resolve(data));
+        assertNull(FieldPath.compile("email.domain").resolve(data));
+    }
+
+    @Test
+    void detectsWildcardsAndRanges() {
+        assertFalse(FieldPath.compile("users[0].email").hasWildcards());
+        assertTrue(FieldPath.compile("users[*].email").hasWildcards());
+        assertTrue(FieldPath.compile("users[1-5].email").hasWildcards());
+        assertTrue(FieldPath.compile("roles.*").hasWildcards());
+        assertEquals(3, FieldPath.compile("roles.*.name").getDepth());
+    }
+
+    @Test
+    void rejectsIndexesThatDoNotFitAnInt() {
+        assertThrows(IllegalArgumentException.class, () -> FieldPath.compile("users[99999999999].email"));
+    }
+}
@@ -0,0 +1,90 @@
+package io.leantony.validator;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonPayloadReaderTest {
+
+    private final JsonFactory factory = new JsonFactory();
+
+    @Test
+    void keepsOnlyReferencedPaths() throws IOException {
+        JsonPayloadReader reader = reader("email", "items[*].sku");
+
+        Map<String, Object> data = read(reader, """
+                {"email":"a@example.com","blob":{"huge":[1,2,3]},
+                 "items":[{"sku":"A1","notes":"x"},{"sku":"B2","extra":{"a":1}}]}""");
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("email", "a@example.com");
+        expected.put("items", List.of(Map.of("sku", "A1"), Map.of("sku", "B2")));
+        assertEquals(expected, data);
+    }
+
+    @Test
+    void keepsWholeValueOfRuleKey() throws IOException {
+        JsonPayloadReader reader = reader("settings");
+
+        Map<String, Object> data = read(reader, "{\"settings\":{\"theme\":\"dark\",\"sizes\":[1,2.5]},\"other\":true}");
+
+        assertEquals(Map.of("settings", Map.of("theme", "dark", "sizes", List.of(1, 2.5))), data);
+    }
+
+    @Test
+    void elementsAfterTheLastReferencedIndexAreSkipped() throws IOException {
+        JsonPayloadReader reader = reader("users[1].email");
+
+        Map<String, Object> data = read(reader, """
+                {"users":[{"email":"a"},{"email":"b","name":"n"},{"email":"c"}]}""");
+
+        assertEquals(Map.of("users", List.of(Map.of("email", "a"), Map.of("email", "b"))), data);
+        assertEquals("b", FieldPath.compile("users[1].email").resolve(data));
+    }
+
+    @Test
+    void indexedKeyAppliesToObjectsToo() throws IOException {
+        JsonPayloadReader reader = reader("user[0].name");
+
+        Map<String, Object> data = read(reader, "{\"user\":{\"name\":\"Jane\",\"age\":3}}");
+
+        assertEquals(Map.of("user", Map.of("name", "Jane")), data);
+    }
+
+    @Test
+    void rejectsPayloadsThatAreNotObjects() throws IOException {
+        JsonPayloadReader reader = reader("email");
+
+        try (JsonParser parser = factory.createParser("[1,2]")) {
+            assertThrows(IllegalArgumentException.class, () -> reader.read(parser));
+        }
+    }
+
+    @Test
+    void missingValuesAreAbsent() throws IOException {
+        Map<String, Object> data = read(reader("meta.*"), "{\"meta\":null}");
+
+        assertNull(((Map<?, ?>) data).get("other"));
+        assertEquals(1, data.size());
+    }
+
+    private static JsonPayloadReader reader(String... keys) {
+        return new JsonPayloadReader(Arrays.stream(keys).map(FieldPath::compile).toList());
+    }
+
+    private Map<String, Object> read(JsonPayloadReader reader, String json) throws IOException {
+        try (JsonParser parser = factory.createParser(json)) {
+            return reader.read(parser);
+        }
+    }
+}
@@ -1,13 +1,27 @@
 package io.leantony.validator;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.leantony.validator.rules.BaseRule;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ValidationHelperTest {
@@ -64,6 +78,232 @@ class ValidationHelperTest {
         assertFalse(isValid, "Validation should fail when 'name' is null.");
     }
 
+    @Test
+    public void testCompileReusesSchemaForEqualRuleMaps() {
+        Map<String, String> rules = new HashMap<>();
+        rules.put("name", "required|alpha");
+
+        CompiledSchema first = helper.compile(rules);
+        CompiledSchema second = helper.compile(new HashMap<>(rules));
+
+        assertSame(first, second, "Equal rule maps should share one compiled schema.");
+    }
+
+    @Test
+    public void testCompileIsNotAffectedByLaterChangesToRuleMap() {
+        Map<String, String> rules = new HashMap<>();
+        rules.put("name", "required");
+        CompiledSchema first = helper.compile(rules);
+
+        rules.put("name", "required|alpha");
+        CompiledSchema second = helper.compile(rules);
+
+        assertNotSame(first, second, "A changed rule map should be compiled again.");
+        assertEquals(2, second.getRules().get("name").size());
+    }
+
+    @Test
+    public void testSchemaCacheIsBounded() {
+        ValidationHelper smallCacheHelper = new ValidationHelper(mapper, 1);
+        Map<String, String> first = Map.of("name", "required");
+        Map<String, String> second = Map.of("email", "required|email");
+
+        CompiledSchema schema = smallCacheHelper.compile(first);
+        smallCacheHelper.compile(second);
+
+        assertNotSame(schema, smallCacheHelper.compile(first), "The oldest schema should have been evicted.");
+    }
+
+    @Test
+    public void testFrequentlyUsedSchemaSurvivesCachePressure() {
+        ValidationHelper smallCacheHelper = new ValidationHelper(mapper, 3);
+        Map<String, String> hot = Map.of("name", "required");
+        Map<String, String> cold = Map.of("field", "required");
+        CompiledSchema schema = smallCacheHelper.compile(hot);
+        CompiledSchema coldSchema = smallCacheHelper.compile(cold);
+
+        for (int i = 0; i < 20; i++) {
+            smallCacheHelper.compile(Map.of("field" + i, "required"));
+            assertSame(schema, smallCacheHelper.compile(hot), "The most recently used schema should stay cached.");
+        }
+        assertNotSame(coldSchema, smallCacheHelper.compile(cold), "An unused schema should have been evicted.");
+    }
+
+    @Test
+    public void testCachedSchemaHonoursALoweredNestingDepth() {
+        Map<String, String> rules = Map.of("a.b.c.d", "required");
+        int depth = Validator.getMaxNestingDepth();
+        CompiledSchema schema = helper.compile(rules);
+        try {
+            Validator.setMaxNestingDepth(3);
+            assertThrows(IllegalArgumentException.class, () -> helper.compile(rules));
+        } finally {
+            Validator.setMaxNestingDepth(depth);
+        }
+        assertNotSame(schema, helper.compile(rules), "The schema should be compiled again after the depth changed.");
+    }
+
+    @Test
+    public void testCompileAttachesTheCurrentListener() {
+        ValidationHelper observedHelper = new ValidationHelper(mapper);
+        Map<String, String> rules = Map.of("name", "required");
+        CompiledSchema plain = observedHelper.compile(rules);
+        ValidationListener first = new ValidationListener() {
+        };
+        ValidationListener second = new ValidationListener() {
+        };
+
+        observedHelper.setValidationListener(first);
+        assertSame(first, observedHelper.compile(rules).getListener());
+        observedHelper.setValidationListener(second);
+        assertSame(second, observedHelper.compile(rules).getListener());
+        assertSame(second, observedHelper.compile(Map.of("email", "email")).getListener());
+        observedHelper.setValidationListener(null);
+
+        assertSame(plain, observedHelper.compile(rules), "The cached schema must not carry a listener.");
+    }
+
+    @Test
+    public void testPropertyAccessorsMatchConvertValue() {
+        ValidationHelper accessorHelper = new ValidationHelper(mapper, 16, DataAccessMode.PROPERTY_ACCESSORS);
+        OrderDto order = new OrderDto("ORD-1", "secret", new String[]{"urgent", ""},
+                List.of(new LineDto("A1", 2), new LineDto("B-2", 0)), Status.OPEN);
+        Map<String, String> rules = new HashMap<>();
+        rules.put("order_ref", "required|alphanumeric");
+        rules.put("tags.*", "required");
+        rules.put("lines[*].sku", "required|alphanumeric");
+        rules.put("lines[*].quantity", "required|numeric|min:1");
+        rules.put("status", "in:OPEN,CLOSED");
+        rules.put("token", "required");
+
+        List<String> expected = helper.validate(order, rules);
+        List<String> actual = accessorHelper.validate(order, rules);
+
+        assertEquals(expected.size(), actual.size(), "Expected " + expected + " but got " + actual);
+        assertTrue(actual.containsAll(expected), "Expected " + expected + " but got " + actual);
+        assertTrue(actual.contains("token is required."), "Ignored properties must not be visible.");
+    }
+
+    @Test
+    public void testPropertyAccessorsReadRecords() {
+        ValidationHelper accessorHelper = new ValidationHelper(mapper, 16, DataAccessMode.PROPERTY_ACCESSORS);
+        Map<String, String> rules = Map.of("sku", "required|alphanumeric", "quantity", "numeric|min:1");
+
+        assertTrue(accessorHelper.validate(new LineDto("A1", 3), rules).isEmpty());
+        assertEquals(List.of("quantity must be at least 1."), accessorHelper.validate(new LineDto("A1", 0), rules));
+    }
+
+    @Test
+    public void testValidateAllKeepsInputOrder() {
+        List<DummyDto> dtos = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            dtos.add(new DummyDto(i % 3 == 0 ? null : "name" + i));
+        }
+        Map<String, String> rules = Map.of("name", "required");
+
+        List<ValidationResult> results = helper.validateAll(dtos, rules);
+
+        assertEquals(dtos.size(), results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i % 3 != 0, results.get(i).isValid(), "Unexpected result for record " + i);
+        }
+    }
+
+    @Test
+    public void testValidateAllOnExecutorWithIterableAndStream() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Map<String, String> rules = Map.of("name", "required|alpha");
+            LinkedHashSet<DummyDto> dtos = new LinkedHashSet<>();
+            IntStream.range(0, 50).forEach(i -> dtos.add(new DummyDto(i % 2 == 0 ? "Jane" : "J4ne")));
+
+            List<ValidationResult> fromIterable = helper.validateAll(dtos, rules, executor);
+            List<ValidationResult> fromStream = helper.validateAll(dtos.stream(), rules, executor);
+
+            assertEquals(50, fromIterable.size());
+            for (int i = 0; i < 50; i++) {
+                assertEquals(i % 2 == 0, fromIterable.get(i).isValid(), "Unexpected result for record " + i);
+                assertEquals(fromIterable.get(i).getErrors(), fromStream.get(i).getErrors());
+            }
+            assertTrue(helper.validateAll(List.of(), rules, executor).isEmpty());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testValidateAllRethrowsWhatARuleThrows() {
+        RuleRegistry.register("helperTestThrows", param -> new BaseRule() {
+            @Override
+            public boolean validate(String field, Object value, Map<String, Object> data) {
+                if ("runtime".equals(value)) throw new IllegalStateException("rule failed");
+                if ("error".equals(value)) throw new StackOverflowError();
+                return true;
+            }
+
+            @Override
+            public String getErrorMessage(String field, Object value, Map<String, Object> data) {
+                return field;
+            }
+        });
+        Map<String, String> rules = Map.of("name", "helperTestThrows");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (Executor on : Arrays.asList(null, executor)) {
+                List<DummyDto> failing = IntStream.range(0, 20).mapToObj(i -> new DummyDto(i == 7 ? "runtime" : "ok")).toList();
+                assertThrows(IllegalStateException.class, () -> helper.validateAll(failing, rules, on));
+
+                List<DummyDto> erroring = IntStream.range(0, 20).mapToObj(i -> new DummyDto(i == 7 ? "error" : "ok")).toList();
+                assertThrows(StackOverflowError.class, () -> helper.validateAll(erroring, rules, on));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    enum Status {OPEN, CLOSED}
+
+    record LineDto(String sku, int quantity) {
+    }
+
+    static class OrderDto {
+        @JsonProperty("order_ref")
+        private final String reference;
+        @JsonIgnore
+        private final String token;
+        private final String[] tags;
+        private final List<LineDto> lines;
+        private final Status status;
+
+        OrderDto(String reference, String token, String[] tags, List<LineDto> lines, Status status) {
+            this.reference = reference;
+            this.token = token;
+            this.tags = tags;
+            this.lines = lines;
+            this.status = status;
+        }
+
+        public String getReference() {
+            return reference;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        public String[] getTags() {
+            return tags;
+        }
+
+        public List<LineDto> getLines() {
+            return lines;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+    }
+
     static class DummyDto {
         private String name;
 
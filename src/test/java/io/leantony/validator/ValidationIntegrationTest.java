@@ -30,7 +30,7 @@ class ValidationIntegrationTest {
         rules.put("role", "required|notIn:guest,banned");
         rules.put("contactNumber", "required|phoneno:KE,US");
         rules.put("isActive", "boolean");
-        rules.put("roleType", "enum:io.cellulant.vas.validator.ValidationIntegrationTest$" + RoleEnum.class.getSimpleName());
+        rules.put("roleType", "enum:io.leantony.validator.ValidationIntegrationTest$" + RoleEnum.class.getSimpleName());
 
         // Nested validation
         rules.put("addresses[0].street", "required");
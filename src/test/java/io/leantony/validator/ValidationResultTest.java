@@ -0,0 +1,95 @@
+package io.leantony.validator;
+
+import io.leantony.validator.rules.BaseRule;
+import io.leantony.validator.rules.MinRule;
+import io.leantony.validator.rules.ValidationRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationResultTest {
+
+    @Test
+    void entriesCarryFieldRuleAndParameter() {
+        Map<String, String> rules = new LinkedHashMap<>();
+        rules.put("age", "required|numeric|min:18");
+        rules.put("items[*].sku", "required");
+        Map<String, Object> data = new HashMap<>();
+        data.put("age", 12);
+        data.put("items", List.of(Map.of("sku", "A"), Map.of("sku", "")));
+
+        ValidationResult result = ValidatorBuilder.compile(rules).validate(data);
+
+        assertEquals(2, result.size());
+        ValidationError min = result.getEntries().get(0);
+        assertEquals("age", min.getField());
+        assertEquals("min", min.getRule());
+        assertEquals("18", min.getParameter());
+        assertEquals(12, min.getValue());
+        ValidationError required = result.getEntries().get(1);
+        assertEquals("items[1].sku", required.getField());
+        assertEquals("required", required.getRule());
+        assertNull(required.getParameter());
+        assertEquals(List.of("age must be at least 18.", "items[1].sku is required."), result.getErrors());
+    }
+
+    @Test
+    void messagesAreRenderedOnlyWhenRequested() {
+        AtomicInteger rendered = new AtomicInteger();
+        ValidationRule rule = new BaseRule() {
+            @Override
+            public boolean validate(String field, Object value, Map<String, Object> data) {
+                return false;
+            }
+
+            @Override
+            public String getErrorMessage(String field, Object value, Map<String, Object> data) {
+                rendered.incrementAndGet();
+                return field + " failed.";
+            }
+        };
+        ValidationResult result = new CompiledSchema(Map.of("code", List.of(rule))).validate(Map.of("code", "x"));
+
+        assertFalse(result.isValid());
+        assertEquals("custom", result.getEntries().get(0).getRule());
+        assertEquals(0, rendered.get());
+        assertEquals("code failed.", result.first());
+        assertEquals(List.of("code failed."), result.getErrors());
+        assertEquals(1, rendered.get());
+    }
+
+    @Test
+    void errorsCanBeReadPerField() {
+        Map<String, String> rules = new LinkedHashMap<>();
+        rules.put("name", "required|alpha");
+        rules.put("email", "required|email");
+        rules.put("phone", "optional|numeric");
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "J0hn");
+        data.put("email", "");
+
+        ValidationResult result = ValidatorBuilder.compile(rules).validate(data);
+
+        assertEquals(List.of("name", "email"), List.copyOf(result.fields()));
+        assertTrue(result.has("email"));
+        assertFalse(result.has("phone"));
+        assertEquals(2, result.byField().get("email").size());
+        assertEquals("email is required.", result.first("email"));
+        assertEquals(List.of("name must contain only alphabetic characters."), result.get("name"));
+        assertTrue(result.get("phone").isEmpty());
+        assertNull(result.first("phone"));
+    }
+
+    @Test
+    void rulesPassedAsObjectsAreNamedAfterTheirClass() {
+        ValidationResult result = new CompiledSchema(Map.of("age", List.of(new MinRule(18)))).validate(Map.of("age", 3));
+
+        assertEquals("min", result.getEntries().get(0).getRule());
+    }
+}
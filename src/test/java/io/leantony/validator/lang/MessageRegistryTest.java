@@ -0,0 +1,95 @@
+package io.leantony.validator.lang;
+
+import io.leantony.validator.ValidationResult;
+import io.leantony.validator.ValidatorBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageRegistryTest {
+    private static final Locale SWAHILI = new Locale("sw");
+    private static final Locale SWAHILI_KENYA = new Locale("sw", "KE");
+
+    @BeforeAll
+    static void registerMessages() {
+        MessageRegistry.overrideMessage(SWAHILI, "required", "{0} inahitajika.");
+        MessageRegistry.overrideMessage(SWAHILI_KENYA, "email", "{0} lazima iwe barua pepe halali.");
+        MessageRegistry.overrideMessage(SWAHILI, "alpha", "{0} lazima iwe na herufi pekee.");
+    }
+
+    @Test
+    void fallsBackPerMessageAlongTheLocaleChain() {
+        ValidationMessageResolver resolver = MessageRegistry.resolverFor(SWAHILI_KENYA);
+        assertEquals("email lazima iwe barua pepe halali.", resolver.resolve("email", "email"));
+        assertEquals("name inahitajika.", resolver.resolve("required", "name"));
+        assertEquals("age must be at least 18.", resolver.resolve("min.number", "age", 18));
+        assertEquals("code is invalid.", resolver.resolve("no.such.key", "code"));
+    }
+
+    @Test
+    void resolversAreCachedPerLocale() {
+        assertSame(MessageRegistry.resolverFor(SWAHILI_KENYA), MessageRegistry.resolverFor(SWAHILI_KENYA));
+    }
+
+    @Test
+    void localesWithoutMessagesShareTheirFallbackResolver() {
+        ValidationMessageResolver english = MessageRegistry.resolverFor(Locale.ENGLISH);
+
+        assertSame(english, MessageRegistry.resolverFor(new Locale("en", "ZZ", "x")));
+        assertSame(english, MessageRegistry.resolverFor(new Locale("xx", "YY")));
+        assertSame(MessageRegistry.resolverFor(SWAHILI), MessageRegistry.resolverFor(new Locale("sw", "TZ")));
+        assertEquals("name inahitajika.", MessageRegistry.resolverFor(new Locale("sw", "TZ")).resolve("required", "name"));
+    }
+
+    @Test
+    void scopedResolverLeavesTheGlobalOneAlone() {
+        ValidationMessageResolver global = MessageRegistry.getResolver();
+        String message = MessageRegistry.withLocale(SWAHILI, () -> MessageRegistry.getResolver().resolve("required", "name"));
+
+        assertEquals("name inahitajika.", message);
+        assertSame(global, MessageRegistry.getResolver());
+        assertEquals("name must contain only alphabetic characters.", MessageRegistry.getResolver().resolve("alpha", "name"));
+    }
+
+    @Test
+    void resultsRenderInTheRequestedLocale() {
+        ValidationResult result = ValidatorBuilder.compile(Map.of("name", "alpha")).validate(Map.of("name", "J0hn"));
+
+        assertEquals(List.of("name lazima iwe na herufi pekee."), result.getErrors(SWAHILI_KENYA));
+        assertEquals("name lazima iwe na herufi pekee.", result.getEntries().get(0).getMessage(SWAHILI));
+        assertEquals(List.of("name must contain only alphabetic characters."), result.getErrors());
+    }
+
+    @Test
+    void messagesRenderedInsideAScopeAreNotReusedOutsideIt() {
+        ValidationResult result = ValidatorBuilder.compile(Map.of("name", "alpha")).validate(Map.of("name", "J0hn"));
+
+        assertEquals(List.of("name lazima iwe na herufi pekee."), MessageRegistry.withLocale(SWAHILI, result::getErrors));
+        assertEquals("name lazima iwe na herufi pekee.",
+                MessageRegistry.withLocale(SWAHILI, () -> result.getEntries().get(0).getMessage()));
+
+        assertEquals(List.of("name must contain only alphabetic characters."), result.getErrors());
+        assertEquals("name must contain only alphabetic characters.", result.getEntries().get(0).getMessage());
+        assertEquals("name must contain only alphabetic characters.", result.first());
+    }
+
+    @Test
+    void localesCanBeServedConcurrently() {
+        ValidationResult result = ValidatorBuilder.compile(Map.of("name", "alpha")).validate(Map.of("name", "J0hn"));
+
+        List<CompletableFuture<Boolean>> futures = IntStream.range(0, 200)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> i % 2 == 0
+                        ? result.getErrors(SWAHILI).equals(List.of("name lazima iwe na herufi pekee."))
+                        : result.getErrors(Locale.ENGLISH).equals(List.of("name must contain only alphabetic characters."))))
+                .toList();
+
+        assertTrue(futures.stream().allMatch(CompletableFuture::join));
+    }
+}
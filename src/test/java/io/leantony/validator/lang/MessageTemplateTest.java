@@ -0,0 +1,68 @@
+package io.leantony.validator.lang;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.text.MessageFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageTemplateTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{0} is required.",
+            "{0} must be between {1} and {2}.",
+            "{1} comes before {0}",
+            "no placeholders",
+            "{0}{0}{0}",
+            "{3} is out of range",
+            "{0} can''t be '{1}'",
+            "{2,number,#.##} is rounded",
+            "a } b {0}",
+            ""
+    })
+    void rendersLikeMessageFormat(String pattern) {
+        Object[] args = {"age", 1234567, new BigDecimal("2.5")};
+        assertEquals(MessageFormat.format(pattern, args), MessageTemplate.format(pattern, args));
+    }
+
+    @Test
+    void formatsArgumentsLikeMessageFormat() {
+        String pattern = "{0}|{1}|{2}|{3}|{4}|{5}|{6}";
+        Object[] args = {null, 7, -7, 18.0, 1000L, 3.14159, new Date(0)};
+        assertEquals(MessageFormat.format(pattern, args), MessageTemplate.format(pattern, args));
+    }
+
+    @Test
+    void followsTheDefaultFormatLocale() {
+        Locale previous = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+            assertEquals("1.234,5 and 12", MessageTemplate.format("{0} and {1}", 1234.5, 12));
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, previous);
+        }
+    }
+
+    @Test
+    void templatesAreParsedOnce() {
+        assertSame(MessageTemplate.of("{0} is invalid."), MessageTemplate.of("{0} is invalid."));
+    }
+
+    @Test
+    void overriddenMessagesAreRenderedWithTheNewTemplate() {
+        Map<String, String> english = new HashMap<>(Map.of("required", "{0} is required."));
+        MapBasedLocaleMessageResolver resolver = new MapBasedLocaleMessageResolver(Map.of(Locale.ENGLISH, english), Locale.ENGLISH);
+        assertEquals("name is required.", resolver.resolve("required", "name"));
+
+        english.put("required", "Please fill in {0}.");
+        assertEquals("Please fill in name.", resolver.resolve("required", "name"));
+    }
+}
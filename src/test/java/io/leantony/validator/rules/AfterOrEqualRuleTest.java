@@ -1,11 +1,16 @@
 package io.leantony.validator.rules;
 
+import io.leantony.validator.ValidationResult;
+import io.leantony.validator.ValidatorBuilder;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -87,6 +92,51 @@ class AfterOrEqualRuleTest {
         );
     }
 
+    @ParameterizedTest
+    @MethodSource("mixedNumberCases")
+    void validate_MixedNumberRepresentations(Object value, Object other, boolean expected) {
+        AfterOrEqualRule rule = new AfterOrEqualRule("limit");
+        assertEquals(expected, rule.validate("amount", value, Map.of("limit", other)));
+    }
+
+    private static Stream<Arguments> mixedNumberCases() {
+        return Stream.of(
+                Arguments.of("100", 99L, true),
+                Arguments.of(99.5, "99.50", true),
+                Arguments.of("1e3", 999, true),
+                Arguments.of("-5", "-4", false),
+                Arguments.of(new java.math.BigDecimal("123456789012345678901"), "123456789012345678900", true),
+                Arguments.of("12.3.4", 1, false)
+        );
+    }
+
+    @Test
+    void getErrorMessage_NumericStrings_ReturnsNumericMessage() {
+        AfterOrEqualRule rule = new AfterOrEqualRule("limit");
+        String message = rule.getErrorMessage("amount", "10.5", Map.of("limit", "20"));
+        assertEquals("amount must be greater than or equal to limit.", message);
+    }
+
+    @Test
+    void schemaErrors_KeepTheComparisonKindFromValidation() {
+        AtomicInteger reads = new AtomicInteger();
+        Map<String, Object> data = new HashMap<>(Map.of("end", 3, "start", 5)) {
+            @Override
+            public Object get(Object key) {
+                if ("start".equals(key)) reads.incrementAndGet();
+                return super.get(key);
+            }
+        };
+
+        ValidationResult result = ValidatorBuilder.compile(Map.of("end", "afterOrEqual:start")).validate(data);
+        int readsWhileValidating = reads.get();
+
+        assertEquals(List.of("end must be greater than or equal to start."), result.getErrors());
+        assertEquals(readsWhileValidating, reads.get(), "Rendering the message must not read the other field again.");
+        assertEquals("end must be after or equal to start (using format yyyy-MM-dd).",
+                ValidatorBuilder.compile(Map.of("end", "afterOrEqual:start")).validate(Map.of("end", "x", "start", 5)).first());
+    }
+
     @Test
     void validate_CustomDateFormat_WorksCorrectly() {
         Map<String, Object> customData = Map.of("customDate", "31/12/2023");
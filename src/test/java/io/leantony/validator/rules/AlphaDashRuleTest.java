@@ -0,0 +1,44 @@
+package io.leantony.validator.rules;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlphaDashRuleTest {
+
+    private final AlphaDashRule rule = new AlphaDashRule();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"order-123", "snake_case", "A-b_C-1", "-", "abc"})
+    void lettersDigitsDashesAndUnderscores_ShouldPassValidation(String input) {
+        assertTrue(rule.validate("slug", input, Collections.emptyMap()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"order 123", "order.123", "a/b", "naïve-slug", " ", ""})
+    void otherCharacters_ShouldFailValidation(String input) {
+        assertFalse(rule.validate("slug", input, Collections.emptyMap()));
+    }
+
+    @Test
+    void nullValue_ShouldFailValidation() {
+        assertFalse(rule.validate("slug", null, Collections.emptyMap()));
+    }
+
+    @Test
+    void unicodeMode_AcceptsLettersOfAnyScript() {
+        AlphaDashRule unicode = new AlphaDashRule("unicode");
+        assertTrue(unicode.validate("slug", "naïve-slug_2", Collections.emptyMap()));
+        assertFalse(unicode.validate("slug", "naïve slug", Collections.emptyMap()));
+    }
+
+    @Test
+    void getErrorMessage_ShouldReturnExpectedMessage() {
+        String message = rule.getErrorMessage("slug", "a b", Collections.emptyMap());
+        assertEquals("slug must contain only letters, digits, dashes and underscores.", message);
+    }
+}
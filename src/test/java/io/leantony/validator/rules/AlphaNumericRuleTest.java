@@ -39,4 +39,17 @@ class AlphaNumericRuleTest {
         String message = rule.getErrorMessage("username", "abc@123", Collections.emptyMap());
         assertEquals("username must contain only letters and digits.", message);
     }
+
+    @Test
+    void surroundingWhitespaceIsIgnored() {
+        assertTrue(rule.validate("testField", "  abc123\t", Collections.emptyMap()));
+        assertTrue(rule.validate("testField", 12345, Collections.emptyMap()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"José٣", "東京2024", "abc123"})
+    void unicodeMode_AcceptsLettersAndDigitsOfAnyScript(String input) {
+        assertTrue(new AlphaNumericRule("unicode").validate("testField", input, Collections.emptyMap()));
+        assertEquals(input.equals("abc123"), rule.validate("testField", input, Collections.emptyMap()));
+    }
 }
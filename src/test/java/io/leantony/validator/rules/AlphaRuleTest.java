@@ -26,4 +26,34 @@ public class AlphaRuleTest {
         String msg = rule.getErrorMessage("name", "John123", data);
         assertEquals("name must contain only alphabetic characters.", msg);
     }
+
+    @Test
+    public void testAlphaAsciiByDefault() {
+        AlphaRule rule = new AlphaRule();
+        Map<String, Object> data = new HashMap<>();
+        assertFalse(rule.validate("name", "Zoë", data));
+        assertFalse(rule.validate("name", "", data));
+        assertFalse(rule.validate("name", 42, data));
+    }
+
+    @Test
+    public void testAlphaUnicode() {
+        AlphaRule rule = new AlphaRule("unicode");
+        Map<String, Object> data = new HashMap<>();
+        assertTrue(rule.validate("name", "Zoë", data));
+        assertTrue(rule.validate("name", "Zoe\u0308", data)); // combining diaeresis
+        assertTrue(rule.validate("name", "Мария", data));
+        assertTrue(rule.validate("name", "\uD801\uDC00", data)); // Deseret capital long I, outside the BMP
+        assertFalse(rule.validate("name", "Zoë1", data));
+        assertFalse(rule.validate("name", "Zoë Li", data));
+        assertFalse(rule.validate("name", "\uD801", data)); // lone surrogate
+    }
+
+    @Test
+    public void testAlphaUnknownModeChecksAscii() {
+        AlphaRule rule = new AlphaRule("latin");
+        Map<String, Object> data = new HashMap<>();
+        assertTrue(rule.validate("name", "John", data));
+        assertFalse(rule.validate("name", "Zoë", data));
+    }
 }
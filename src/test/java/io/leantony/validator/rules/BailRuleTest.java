@@ -0,0 +1,40 @@
+package io.leantony.validator.rules;
+
+import io.leantony.validator.RequestValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BailRuleTest {
+
+    @Test
+    void bailRuleAlwaysPasses() {
+        BailRule rule = new BailRule();
+        assertTrue(rule.validate("field", null, Map.of()));
+    }
+
+    @Test
+    void bailStopsAtFirstFailedRuleOfField() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("code", "ab");
+
+        List<String> errors = RequestValidator.validate(data, Map.of("code", "bail|numeric|min:5|length:6"));
+
+        assertEquals(List.of("code must be numeric."), errors);
+    }
+
+    @Test
+    void withoutBailEveryRuleReportsAnError() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("code", "ab");
+
+        List<String> errors = RequestValidator.validate(data, Map.of("code", "numeric|min:5|length:6"));
+
+        assertEquals(3, errors.size());
+    }
+}
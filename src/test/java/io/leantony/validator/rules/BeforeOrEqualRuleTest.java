@@ -86,4 +86,20 @@ class BeforeOrEqualRuleTest {
                 new BeforeOrEqualRule("dateField", "invalid-format")
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void validate_DateTimeFormat_ComparesTimes() {
+        Map<String, Object> data = Map.of("closesAt", "15/02/2025 17:00");
+        BeforeOrEqualRule rule = new BeforeOrEqualRule("closesAt", "dd/MM/yyyy HH:mm");
+        assertTrue(rule.validate("opensAt", "15/02/2025 08:00", data));
+        assertFalse(rule.validate("opensAt", "15/02/2025 17:01", data));
+        assertFalse(rule.validate("opensAt", "31/02/2025 08:00", data));
+    }
+
+    @Test
+    void validate_LargeIntegers_ComparedExactly() {
+        BeforeOrEqualRule rule = new BeforeOrEqualRule("limit");
+        assertTrue(rule.validate("amount", "9223372036854775807", Map.of("limit", "9223372036854775808")));
+        assertFalse(rule.validate("amount", "9223372036854775809", Map.of("limit", "9223372036854775808")));
+    }
+}
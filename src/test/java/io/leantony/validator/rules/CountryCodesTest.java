@@ -0,0 +1,31 @@
+package io.leantony.validator.rules;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountryCodesTest {
+
+    @Test
+    void convertsBetweenAlpha2AndAlpha3() {
+        assertEquals("KE", CountryCodes.toAlpha2("KEN"));
+        assertEquals("US", CountryCodes.toAlpha2("USA"));
+        assertEquals("KEN", CountryCodes.toAlpha3("KE"));
+        assertEquals("KE", CountryCodes.toAlpha2("KE"));
+        assertEquals("KEN", CountryCodes.toAlpha3("KEN"));
+    }
+
+    @Test
+    void unknownCodesAreReturnedUnchanged() {
+        assertEquals("XYZ", CountryCodes.toAlpha2("XYZ"));
+        assertEquals("QQ", CountryCodes.toAlpha3("QQ"));
+        assertFalse(CountryCodes.isValid("XYZ"));
+    }
+
+    @Test
+    void containsBothCodeLengths() {
+        assertTrue(CountryCodes.isValid("UG"));
+        assertTrue(CountryCodes.isValid("UGA"));
+        assertThrows(UnsupportedOperationException.class, () -> CountryCodes.allCodes().add("ZZ"));
+    }
+}
@@ -45,4 +45,11 @@ public class CountryRuleTest {
         String msg = rule.getErrorMessage("country", "XX", data);
         assertEquals("country must be a valid ISO country code.", msg);
     }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testLegacyCodeSetIsCountryCodes() {
+        assertSame(CountryCodes.allCodes(), CountryRule.VALID_COUNTRY_CODES);
+        assertThrows(UnsupportedOperationException.class, () -> CountryRule.VALID_COUNTRY_CODES.add("XX"));
+    }
 }
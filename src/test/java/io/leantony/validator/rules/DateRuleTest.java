@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -60,6 +61,79 @@ class DateRuleTest {
         assertFalse(rule.validate("eventDate", "2025-02-30", Collections.emptyMap())); // Feb 30 is invalid
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-02-29", "2000-02-29", "1999-12-31"})
+    void validEdgeDates_DefaultFormat_ShouldPassValidation(String input) {
+        DateRule rule = new DateRule();
+        assertTrue(rule.validate("eventDate", input, Collections.emptyMap()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2023-02-29", "1900-02-29", "2025-04-31", "2025-13-01", "2025-00-10", "2025-02-15x", "2025-2-15", "２０２５-02-15"})
+    void invalidEdgeDates_DefaultFormat_ShouldFailValidation(String input) {
+        DateRule rule = new DateRule();
+        assertFalse(rule.validate("eventDate", input, Collections.emptyMap()));
+    }
+
+    @Test
+    void isoDateTimeFormat_ShouldBeValidated() {
+        DateRule rule = new DateRule("yyyy-MM-dd'T'HH:mm:ss");
+        assertTrue(rule.validate("createdAt", "2025-02-15T23:59:59", Collections.emptyMap()));
+        assertFalse(rule.validate("createdAt", "2025-02-15T24:00:00", Collections.emptyMap()));
+        assertFalse(rule.validate("createdAt", "2025-02-15 10:00:00", Collections.emptyMap()));
+    }
+
+    @Test
+    void customFormat_ShouldRejectDatesThatDoNotExist() {
+        DateRule rule = new DateRule("dd/MM/yyyy HH:mm");
+        assertTrue(rule.validate("appointment", "29/02/2024 08:30", Collections.emptyMap()));
+        assertFalse(rule.validate("appointment", "31/04/2025 08:30", Collections.emptyMap()));
+        assertFalse(rule.validate("appointment", "15/02/2025", Collections.emptyMap()));
+    }
+
+    @Test
+    void invalidFormat_ShouldBeRejectedWhenTheRuleIsCreated() {
+        assertThrows(IllegalArgumentException.class, () -> new DateRule("yyyy-MM-dd{"));
+    }
+
+    @Test
+    void monthNames_ShouldBeMatchedIgnoringCase() {
+        DateRule rule = new DateRule("dd MMM yyyy");
+        assertTrue(rule.validate("eventDate", "05 Jan 2025", Collections.emptyMap()));
+        assertTrue(rule.validate("eventDate", "05 jan 2025", Collections.emptyMap()));
+        assertTrue(rule.validate("eventDate", "05 JAN 2025", Collections.emptyMap()));
+        assertFalse(rule.validate("eventDate", "31 apr 2025", Collections.emptyMap()));
+    }
+
+    @Test
+    void twelveHourClockWithoutMarker_ShouldReadMorningHours() {
+        DatePattern pattern = DatePattern.of("hh:mm");
+        assertEquals(LocalDateTime.of(1970, 1, 1, 9, 30), pattern.parse("09:30"));
+        assertEquals(LocalDateTime.of(1970, 1, 1, 0, 15), pattern.parse("12:15"));
+        assertNull(pattern.parse("13:00"));
+        assertEquals(LocalDateTime.of(1970, 1, 1, 21, 30), DatePattern.of("hh:mm a").parse("09:30 pm"));
+        assertEquals(LocalDateTime.of(1970, 1, 1, 11, 0), DatePattern.of("KK:mm").parse("11:00"));
+    }
+
+    @Test
+    void simpleDateFormatLetters_ShouldKeepTheirMeaning() {
+        assertEquals(LocalDateTime.of(2025, 1, 6, 10, 0, 0, 123_000_000),
+                DatePattern.of("yyyy-MM-dd HH:mm:ss.SSS").parse("2025-01-06 10:00:00.123"));
+        // u is the day number of the week: 6 January 2025 was a Monday.
+        assertTrue(new DateRule("yyyy-MM-dd u").validate("eventDate", "2025-01-06 1", Collections.emptyMap()));
+        assertFalse(new DateRule("yyyy-MM-dd u").validate("eventDate", "2025-01-06 2", Collections.emptyMap()));
+        assertTrue(new DateRule("dd/MM/yyyy G").validate("eventDate", "06/01/2025 ad", Collections.emptyMap()));
+        assertTrue(new DateRule("h 'o''clock'").validate("eventDate", "5 o'clock", Collections.emptyMap()));
+    }
+
+    @Test
+    void lettersUnknownToSimpleDateFormat_ShouldBeRejected() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new DateRule("yyyy-MM-dd e"));
+        assertEquals("Unsupported letter 'e' in date pattern: yyyy-MM-dd e", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new DateRule("yyyy-QQ"));
+        assertTrue(new DateRule("yyyy-MM-dd 'e'").validate("eventDate", "2025-01-06 e", Collections.emptyMap()));
+    }
+
     @Test
     void getErrorMessage_ShouldReturnExpectedMessage() {
         DateRule rule = new DateRule("MM/dd/yyyy");
@@ -0,0 +1,50 @@
+package io.leantony.validator.rules;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecimalRuleTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1.50", "-0.25", "+10.00", ".99"})
+    void exactPlaces_ShouldPassValidation(String input) {
+        assertTrue(new DecimalRule("2").validate("price", input, Collections.emptyMap()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1.5", "1.500", "10", "1.50e2", "abc", "1.5.0"})
+    void otherPlaces_ShouldFailValidation(String input) {
+        assertFalse(new DecimalRule("2").validate("price", input, Collections.emptyMap()));
+    }
+
+    @Test
+    void rangeOfPlaces() {
+        DecimalRule rule = new DecimalRule("1,3");
+        assertTrue(rule.validate("rate", "0.5", Collections.emptyMap()));
+        assertTrue(rule.validate("rate", 0.125, Collections.emptyMap()));
+        assertTrue(rule.validate("rate", new BigDecimal("1.50"), Collections.emptyMap()));
+        assertFalse(rule.validate("rate", "1", Collections.emptyMap()));
+        assertFalse(rule.validate("rate", "1.0625", Collections.emptyMap()));
+    }
+
+    @Test
+    void invalidParameters_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new DecimalRule(null));
+        assertThrows(IllegalArgumentException.class, () -> new DecimalRule("3,1"));
+        assertThrows(IllegalArgumentException.class, () -> new DecimalRule("two"));
+    }
+
+    @Test
+    void getErrorMessage_ShouldReturnExpectedMessage() {
+        assertEquals("price must have 2 decimal places.",
+                new DecimalRule("2").getErrorMessage("price", "1", Collections.emptyMap()));
+        assertEquals("rate must have between 1 and 3 decimal places.",
+                new DecimalRule("1,3").getErrorMessage("rate", "1", Collections.emptyMap()));
+    }
+}
@@ -0,0 +1,45 @@
+package io.leantony.validator.rules;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DigitsBetweenRuleTest {
+
+    private final DigitsBetweenRule rule = new DigitsBetweenRule("4,6");
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1234", "12345", "123456", "0007"})
+    void digitCountsInRange_ShouldPassValidation(String input) {
+        assertTrue(rule.validate("pin", input, Collections.emptyMap()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"123", "1234567", "-1234", "+1234", "12.34", "1e10", "12a4", ""})
+    void otherValues_ShouldFailValidation(String input) {
+        assertFalse(rule.validate("pin", input, Collections.emptyMap()));
+    }
+
+    @Test
+    void numbersAreCheckedByTheirDigits() {
+        assertTrue(rule.validate("pin", 12345, Collections.emptyMap()));
+        assertFalse(rule.validate("pin", -12345, Collections.emptyMap()));
+        assertFalse(rule.validate("pin", null, Collections.emptyMap()));
+    }
+
+    @Test
+    void invalidParameters_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new DigitsBetweenRule("4"));
+        assertThrows(IllegalArgumentException.class, () -> new DigitsBetweenRule("6,4"));
+        assertThrows(IllegalArgumentException.class, () -> new DigitsBetweenRule("a,b"));
+    }
+
+    @Test
+    void getErrorMessage_ShouldReturnExpectedMessage() {
+        assertEquals("pin must be between 4 and 6 digits.", rule.getErrorMessage("pin", "12", Collections.emptyMap()));
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -89,4 +90,54 @@ class EnumRuleTest {
     enum OrderStatus {
         PENDING, SHIPPED, DELIVERED, CANCELLED
     }
+
+    @Test
+    void testEnumClassConstructorSharesTheIndex() {
+        EnumRule byName = new EnumRule(OrderStatus.class.getName());
+        EnumRule byClass = new EnumRule(OrderStatus.class);
+
+        assertTrue(byClass.validate("status", "Shipped", new HashMap<>()));
+        assertEquals(byName.getErrorMessage("status", "x", new HashMap<>()), byClass.getErrorMessage("status", "x", new HashMap<>()));
+    }
+
+    @Test
+    void testClassIsResolvedThroughTheContextClassLoader() {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(null);
+        try {
+            assertTrue(new EnumRule(OrderStatus.class.getName()).validate("status", "PENDING", new HashMap<>()));
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new EnumRule("com.example.MissingEnum"));
+        assertThrows(IllegalArgumentException.class, () -> new EnumRule(String.class.getName()));
+    }
+
+    @Test
+    void testClassIsResolvedOncePerClassLoader() {
+        AtomicInteger lookups = new AtomicInteger();
+        // Cannot see the test classes, so every lookup that reaches it falls back to the library's loader.
+        ClassLoader counting = new ClassLoader(null) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                lookups.incrementAndGet();
+                return super.loadClass(name, resolve);
+            }
+        };
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(counting);
+        try {
+            Map<String, String> rules = Map.of("status", "enum:" + OrderStatus.class.getName());
+            assertTrue(ValidatorBuilder.compile(rules).validate(Map.of("status", "pending")).isValid());
+            int afterFirstBuild = lookups.get();
+            assertFalse(ValidatorBuilder.compile(rules).validate(Map.of("status", "lost")).isValid());
+
+            assertEquals(1, afterFirstBuild);
+            assertEquals(afterFirstBuild, lookups.get(), "A second build must not resolve the class again.");
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package io.leantony.validator.rules;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FieldReferenceTest {
+
+    private final Map<String, Object> data = Map.of(
+            "startDate", "2025-01-01",
+            "billing", Map.of("country", "KE"),
+            "items", List.of(
+                    Map.of("startDate", "2025-02-01", "endDate", "2025-03-01"),
+                    Map.of("startDate", "2025-04-01", "endDate", "2025-03-01")));
+
+    @Test
+    void plainAndDottedNamesAreReadFromTheRoot() {
+        assertEquals("2025-01-01", FieldReference.of("startDate").resolve(data));
+        assertEquals("KE", FieldReference.of("billing.country").resolve(data));
+        assertEquals("2025-04-01", FieldReference.of("items[1].startDate").resolve(data));
+        assertNull(FieldReference.of("billing.city").resolve(data));
+    }
+
+    @Test
+    void wildcardsAreUnresolvedWithoutAContext() {
+        assertNull(FieldReference.of("items.*.startDate").resolve(data));
+    }
+
+    @Test
+    void wildcardsTakeTheIndexesOfTheValueBeingValidated() {
+        List<?> items = (List<?>) data.get("items");
+        ValidationContext second = context(new Object[]{"items", null, "endDate"}, new int[]{-1, 1, -1},
+                new Object[]{items, items.get(1), "2025-03-01"});
+
+        assertEquals("2025-04-01", FieldReference.of("items.*.startDate").resolve(data, second));
+        assertEquals("2025-04-01", FieldReference.of("items[*].startDate").resolve(data, second));
+        assertEquals("2025-02-01", FieldReference.of("items[0].startDate").resolve(data, second));
+        assertEquals("2025-01-01", FieldReference.of("startDate").resolve(data, second));
+    }
+
+    private static ValidationContext context(Object[] names, int[] indexes, Object[] nodes) {
+        return new ValidationContext() {
+            @Override
+            public int getDepth() {
+                return names.length;
+            }
+
+            @Override
+            public String getName(int step) {
+                return (String) names[step];
+            }
+
+            @Override
+            public int getIndex(int step) {
+                return indexes[step];
+            }
+
+            @Override
+            public Object getNode(int step) {
+                return nodes[step];
+            }
+        };
+    }
+}
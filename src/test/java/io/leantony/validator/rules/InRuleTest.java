@@ -30,4 +30,44 @@ public class InRuleTest {
         String expected = "fruit must be one of [apple, banana, orange].";
         assertEquals(expected, rule.getErrorMessage("fruit", "pear", data));
     }
+
+    @Test
+    public void testIntegerValuesMatchExactly() {
+        InRule rule = new InRule("1, 2, 05, 9223372036854775807");
+        Map<String, Object> data = new HashMap<>();
+        assertTrue(rule.validate("code", 2, data));
+        assertTrue(rule.validate("code", 2L, data));
+        assertTrue(rule.validate("code", Long.MAX_VALUE, data));
+        assertTrue(rule.validate("code", "05", data));
+        assertFalse(rule.validate("code", 5, data), "05 is not the string form of 5.");
+        assertFalse(rule.validate("code", 2.0, data));
+    }
+
+    @Test
+    public void testIgnoreCaseMode() {
+        InRule rule = new InRule("Apple,BANANA", MatchMode.IGNORE_CASE);
+        Map<String, Object> data = new HashMap<>();
+        assertTrue(rule.validate("fruit", "apple", data));
+        assertTrue(rule.validate("fruit", "Banana", data));
+        assertFalse(rule.validate("fruit", "pear", data));
+        assertEquals("fruit must be one of [Apple, BANANA].", rule.getErrorMessage("fruit", "pear", data));
+    }
+
+    @Test
+    public void testNumericMode() {
+        InRule rule = new InRule("5, 10.50, 1e3", MatchMode.NUMERIC);
+        Map<String, Object> data = new HashMap<>();
+        assertTrue(rule.validate("amount", 5, data));
+        assertTrue(rule.validate("amount", "5.00", data));
+        assertTrue(rule.validate("amount", 10.5, data));
+        assertTrue(rule.validate("amount", "1000", data));
+        assertTrue(rule.validate("amount", new java.math.BigDecimal("1E+3"), data));
+        assertFalse(rule.validate("amount", "abc", data));
+        assertFalse(rule.validate("amount", 6L, data));
+    }
+
+    @Test
+    public void testNumericModeRejectsNonNumericValues() {
+        assertThrows(IllegalArgumentException.class, () -> new InRule("1,two", MatchMode.NUMERIC));
+    }
 }
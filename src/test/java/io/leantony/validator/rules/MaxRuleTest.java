@@ -5,6 +5,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -21,6 +24,13 @@ class MaxRuleTest {
                 Arguments.of(10.0, 5),
                 Arguments.of(5.0, 4.99),
                 Arguments.of(0.0, -1),
+                Arguments.of(2.5, 2L),
+                Arguments.of(-2.5, -3),
+                Arguments.of(100.0, new BigInteger("100")),
+                Arguments.of(0.1, new BigDecimal("0.10")),
+                Arguments.of(0.1, 0.1f),
+                Arguments.of(1e30, Long.MAX_VALUE),
+                Arguments.of(1e10, "short"),
 
                 // String lengths
                 Arguments.of(10.0, "short"),
@@ -40,6 +50,13 @@ class MaxRuleTest {
                 Arguments.of(3.14, 3.15),
                 Arguments.of(0.0, 1),
                 Arguments.of(-5.0, -4),
+                Arguments.of(2.5, 3L),
+                Arguments.of(-2.5, -2),
+                Arguments.of(99.5, new BigInteger("100")),
+                Arguments.of(0.1, new BigDecimal("0.1001")),
+                Arguments.of(-1e30, Long.MIN_VALUE),
+                Arguments.of(0.0, Double.NaN),
+                Arguments.of(2.5, "ab"),
 
                 // String lengths
                 Arguments.of(3.0, "abcd"),
@@ -57,6 +74,8 @@ class MaxRuleTest {
                 Arguments.of(5.0, 6, "field must be at most 5."),
                 Arguments.of(3.0, "abcd", "field must be at most 3 characters long."),
                 Arguments.of(2.0, List.of(1, 2, 3), "field must contain at most 2 items."),
+                Arguments.of(2.5, 3, "field must be at most 2.5."),
+                Arguments.of(1e10, 2e10, "field must be at most 10000000000."),
                 Arguments.of(10.0, new Object(), "field exceeds maximum requirement of 10 characters.")
         );
     }
@@ -94,4 +113,11 @@ class MaxRuleTest {
         String message = rule.getErrorMessage("field", value, DATA);
         assertEquals(expected, message);
     }
-}
\ No newline at end of file
+
+    @Test
+    void validate_CollectionSize_UsesSize() {
+        MaxRule rule = new MaxRule(2.0);
+        assertTrue(rule.validate("field", new ArrayDeque<>(List.of(1, 2)), DATA));
+        assertFalse(rule.validate("field", new ArrayDeque<>(List.of(1, 2, 3)), DATA));
+    }
+}
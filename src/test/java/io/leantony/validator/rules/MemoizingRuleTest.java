@@ -0,0 +1,186 @@
+package io.leantony.validator.rules;
+
+import io.leantony.validator.RuleRegistry;
+import io.leantony.validator.ValidatorBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoizingRuleTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final ValidationRule countingRule = new BaseRule() {
+        @Override
+        public boolean validate(String field, Object value, Map<String, Object> data) {
+            calls.incrementAndGet();
+            return "ok".equals(value);
+        }
+
+        @Override
+        public String getErrorMessage(String field, Object value, Map<String, Object> data) {
+            return field + " is not ok.";
+        }
+    };
+
+    @Test
+    void repeatedValuesAreAnsweredFromTheCache() {
+        RuleCache cache = new RuleCache(10);
+        MemoizingRule rule = new MemoizingRule(countingRule, "param", cache);
+
+        assertTrue(rule.validate("code", "ok", Collections.emptyMap()));
+        assertTrue(rule.validate("code", "ok", Collections.emptyMap()));
+        assertFalse(rule.validate("code", "bad", Collections.emptyMap()));
+        assertFalse(rule.validate("code", "bad", Collections.emptyMap()));
+
+        assertEquals(2, calls.get());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals("code is not ok.", rule.getErrorMessage("code", "bad", Collections.emptyMap()));
+    }
+
+    @Test
+    void parameterIsPartOfTheKey() {
+        RuleCache cache = new RuleCache(10);
+        new MemoizingRule(countingRule, "KE", cache).validate("phone", "ok", Collections.emptyMap());
+        new MemoizingRule(countingRule, "UG", cache).validate("phone", "ok", Collections.emptyMap());
+
+        assertEquals(2, calls.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void mutableValuesAreNotCached() {
+        RuleCache cache = new RuleCache(10);
+        MemoizingRule rule = new MemoizingRule(countingRule, null, cache);
+
+        rule.validate("items", List.of("ok"), Collections.emptyMap());
+        rule.validate("items", List.of("ok"), Collections.emptyMap());
+
+        assertEquals(2, calls.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void cacheIsBoundedAndExpires() throws InterruptedException {
+        RuleCache bounded = new RuleCache(2);
+        MemoizingRule rule = new MemoizingRule(countingRule, null, bounded);
+        for (int i = 0; i < 10; i++) {
+            rule.validate("code", "value" + i, Collections.emptyMap());
+        }
+        assertTrue(bounded.size() <= 2);
+
+        RuleCache expiring = new RuleCache(10, Duration.ofMillis(1));
+        MemoizingRule expiringRule = new MemoizingRule(countingRule, null, expiring);
+        expiringRule.validate("code", "ok", Collections.emptyMap());
+        Thread.sleep(5);
+        expiringRule.validate("code", "ok", Collections.emptyMap());
+        assertEquals(0, expiring.getHitCount());
+    }
+
+    @Test
+    void fullCacheEvictsLeastRecentlyUsed() {
+        RuleCache cache = new RuleCache(4);
+        for (String value : List.of("a", "b", "c", "d")) {
+            cache.put(null, value, true);
+        }
+        assertNotNull(cache.get(null, "a"));
+        assertNotNull(cache.get(null, "c"));
+
+        cache.put(null, "e", true);
+
+        assertEquals(4, cache.size());
+        assertNull(cache.get(null, "b"));
+        assertNotNull(cache.get(null, "a"));
+        assertNotNull(cache.get(null, "c"));
+        assertNotNull(cache.get(null, "d"));
+        assertNotNull(cache.get(null, "e"));
+    }
+
+    @Test
+    void expiredEntriesAreRemovedBeforeLiveOnes() throws InterruptedException {
+        RuleCache cache = new RuleCache(3, Duration.ofMillis(100));
+        cache.put(null, "old1", true);
+        cache.put(null, "old2", true);
+        Thread.sleep(150);
+        cache.put(null, "new1", true);
+        cache.put(null, "new2", true);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(null, "new1"));
+        assertNotNull(cache.get(null, "new2"));
+
+        RuleCache lookedUp = new RuleCache(10, Duration.ofMillis(1));
+        lookedUp.put(null, "x", true);
+        Thread.sleep(5);
+        assertNull(lookedUp.get(null, "x"));
+        assertEquals(0, lookedUp.size());
+    }
+
+    @Test
+    void registryWrapsTheRegisteredFactory() {
+        RuleRegistry.register("memoTestOk", param -> countingRule);
+        RuleCache cache = RuleRegistry.memoize("memoTestOk", 100, Duration.ofMinutes(5));
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(ValidatorBuilder.compile(Map.of("code", "memoTestOk")).validate(Map.of("code", "ok")).isValid());
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(2, cache.getHitCount());
+        assertThrows(IllegalArgumentException.class, () -> RuleRegistry.memoize("noSuchRule", 10, null));
+    }
+
+    @Test
+    void crossFieldRulesAreNotWrapped() {
+        RuleRegistry.register("memoTestPhone", PhoneNoRule::new);
+        RuleCache cache = RuleRegistry.memoize("memoTestPhone", 100, null);
+
+        assertInstanceOf(MemoizingRule.class, RuleRegistry.get("memoTestPhone").create("KE"));
+        assertInstanceOf(PhoneNoRule.class, RuleRegistry.get("memoTestPhone").create("countryCode"));
+        assertThrows(IllegalArgumentException.class, () -> new MemoizingRule(new PhoneNoRule("countryCode"), "countryCode", cache));
+
+        // The same number is valid for one country and not for the other.
+        Map<String, String> rules = Map.of("phone", "memoTestPhone:countryCode");
+        assertTrue(ValidatorBuilder.compile(rules).validate(Map.of("phone", "0712345678", "countryCode", "KE")).isValid());
+        assertFalse(ValidatorBuilder.compile(rules).validate(Map.of("phone", "0712345678", "countryCode", "US")).isValid());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void optionalRulesAreNotWrapped() {
+        RuleRegistry.register("memoTestNullable", param -> new OptionalRule());
+        RuleRegistry.memoize("memoTestNullable", 100, null);
+
+        assertInstanceOf(OptionalRule.class, RuleRegistry.get("memoTestNullable").create(null));
+        assertThrows(IllegalArgumentException.class, () -> new MemoizingRule(new OptionalRule(), null, new RuleCache(10)));
+        assertTrue(ValidatorBuilder.compile(Map.of("email", "memoTestNullable|email")).validate(Map.of("email", "")).isValid());
+    }
+
+    @Test
+    void bailRulesAreNotWrapped() {
+        RuleRegistry.register("memoTestBail", param -> new BailRule());
+        RuleRegistry.memoize("memoTestBail", 100, null);
+
+        assertInstanceOf(BailRule.class, RuleRegistry.get("memoTestBail").create(null));
+        assertThrows(IllegalArgumentException.class, () -> new MemoizingRule(new BailRule(), null, new RuleCache(10)));
+        assertEquals(1, ValidatorBuilder.compile(Map.of("code", "memoTestBail|alpha|min:5")).validate(Map.of("code", "1")).size());
+    }
+
+    @Test
+    void prerequisiteRulesAreNotWrapped() {
+        RuleRegistry.register("memoTestRequired", param -> new RequiredRule());
+        RuleRegistry.memoize("memoTestRequired", 100, null);
+
+        assertInstanceOf(RequiredRule.class, RuleRegistry.get("memoTestRequired").create(null));
+        assertThrows(IllegalArgumentException.class, () -> new MemoizingRule(new RequiredRule(), null, new RuleCache(10)));
+        assertEquals(1, ValidatorBuilder.compile(Map.of("code", "memoTestRequired|min:5")).withImplicitBail(true)
+                .validate(Map.of("code", "")).size());
+    }
+}
@@ -5,6 +5,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -22,6 +25,12 @@ class MinRuleTest {
                 Arguments.of(3.14, 3.14),
                 Arguments.of(0.0, 0),
                 Arguments.of(-10.0, -5),
+                Arguments.of(2.5, 3L),
+                Arguments.of(-2.5, -2),
+                Arguments.of(100.0, new BigInteger("100")),
+                Arguments.of(0.1, new BigDecimal("0.10")),
+                Arguments.of(0.1, 0.1f),
+                Arguments.of(-1e30, Long.MIN_VALUE),
 
                 // String lengths
                 Arguments.of(3.0, "abc"),
@@ -40,6 +49,13 @@ class MinRuleTest {
                 Arguments.of(10.0, 5),
                 Arguments.of(5.0, 4.99),
                 Arguments.of(0.0, -1),
+                Arguments.of(2.5, 2L),
+                Arguments.of(-2.5, -3),
+                Arguments.of(100.5, new BigInteger("100")),
+                Arguments.of(0.1, new BigDecimal("0.0999")),
+                Arguments.of(1e30, Long.MAX_VALUE),
+                Arguments.of(0.0, Double.NaN),
+                Arguments.of(2.5, "abc"),
 
                 // String lengths
                 Arguments.of(6.0, "short"),
@@ -57,6 +73,8 @@ class MinRuleTest {
                 Arguments.of(5.0, 3, "field must be at least 5."),
                 Arguments.of(3.0, "ab", "field must be at least 3 characters long."),
                 Arguments.of(2.0, List.of(1), "field must contain at least 2 items."),
+                Arguments.of(2.5, 2, "field must be at least 2.5."),
+                Arguments.of(1e10, 2, "field must be at least 10000000000."),
                 Arguments.of(10.0, new Object(), "field does not meet the minimum requirement of 10 characters.")
         );
     }
@@ -94,4 +112,11 @@ class MinRuleTest {
         String message = rule.getErrorMessage("field", value, DATA);
         assertEquals(expected, message);
     }
-}
\ No newline at end of file
+
+    @Test
+    void validate_CollectionSize_UsesSize() {
+        MinRule rule = new MinRule(2.0);
+        assertTrue(rule.validate("field", new ArrayDeque<>(List.of(1, 2)), DATA));
+        assertFalse(rule.validate("field", new ArrayDeque<>(List.of(1)), DATA));
+    }
+}
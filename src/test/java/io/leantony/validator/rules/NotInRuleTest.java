@@ -37,4 +37,17 @@ public class NotInRuleTest {
         String errorMessage = rule.getErrorMessage("color", "red", data);
         assertEquals("color must not be one of [red, blue, green].", errorMessage);
     }
+
+    @Test
+    public void testIgnoreCaseAndNumericModes() {
+        Map<String, Object> data = new HashMap<>();
+        NotInRule ignoreCase = new NotInRule("guest, banned", MatchMode.IGNORE_CASE);
+        assertFalse(ignoreCase.validate("role", "GUEST", data));
+        assertTrue(ignoreCase.validate("role", "admin", data));
+
+        NotInRule numeric = new NotInRule("0, -1", MatchMode.NUMERIC);
+        assertFalse(numeric.validate("quantity", "0.0", data));
+        assertFalse(numeric.validate("quantity", -1, data));
+        assertTrue(numeric.validate("quantity", 3, data));
+    }
 }
@@ -2,6 +2,7 @@ package io.leantony.validator.rules;
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.util.HashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -77,4 +78,27 @@ class NumericRuleTest {
         boolean valid = rule.validate("testField", "-123.45", new HashMap<>());
         assertTrue(valid, "Expected numeric value '-123.45' to pass with digit count of 5.");
     }
+
+    @Test
+    void shouldFollowTheDecimalGrammar() {
+        NumericRule rule = new NumericRule();
+        assertThat(rule.validate("amount", " -0.5 ", null)).isTrue();
+        assertThat(rule.validate("amount", "+1.5E3", null)).isTrue();
+        assertThat(rule.validate("amount", ".5", null)).isTrue();
+        assertThat(rule.validate("amount", "1.", null)).isTrue();
+        assertThat(rule.validate("amount", new BigDecimal("1E+400"), null)).isTrue();
+        assertThat(rule.validate("amount", "", null)).isFalse();
+        assertThat(rule.validate("amount", "-", null)).isFalse();
+        assertThat(rule.validate("amount", "1e", null)).isFalse();
+        assertThat(rule.validate("amount", "1.5f", null)).isFalse();
+        assertThat(rule.validate("amount", "0x1F", null)).isFalse();
+        assertThat(rule.validate("amount", "NaN", null)).isFalse();
+        assertThat(rule.validate("amount", "Infinity", null)).isFalse();
+    }
+
+    @Test
+    void digitCountIncludesExponentDigits() {
+        assertTrue(new NumericRule(4).validate("testField", "1.5E10", new HashMap<>()));
+        assertFalse(new NumericRule(2).validate("testField", "12a", new HashMap<>()));
+    }
 }
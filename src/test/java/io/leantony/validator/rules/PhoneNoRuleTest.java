@@ -84,4 +84,13 @@ public class PhoneNoRuleTest {
         // Expected: Validation fails.
         assertFalse(result, "Expected invalid phone number to fail with literal country code 'KEN'.");
     }
+
+    @Test
+    public void testValidNationalPhone_WithAlpha3AllowedRegion() {
+        PhoneNoRule rule = new PhoneNoRule("KEN,UGA");
+        Map<String, Object> data = new HashMap<>();
+
+        // A national-format number is parsed with the alpha-2 region of each allowed code.
+        assertTrue(rule.validate("phone", "0712345678", data));
+    }
 }
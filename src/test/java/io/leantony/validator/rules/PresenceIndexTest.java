@@ -0,0 +1,97 @@
+package io.leantony.validator.rules;
+
+import io.leantony.validator.CompiledSchema;
+import io.leantony.validator.ValidatorBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PresenceIndexTest {
+
+    @Test
+    void readsEachReferencedFieldOnce() {
+        CountingMap data = new CountingMap();
+        data.put("country", " KE ");
+        data.put("email", "   ");
+        FieldReference country = FieldReference.of("country");
+        FieldReference email = FieldReference.of("email");
+        FieldReference phone = FieldReference.of("phone");
+        PresenceIndex index = new PresenceIndex(ReferenceTable.of(List.of(
+                new RequiredWithRule("country,email"), new RequiredWithoutRule("phone"))));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("KE", index.getText(country, data));
+            assertTrue(index.isFilled(country, data));
+            assertFalse(index.isFilled(email, data));
+            assertNull(index.getText(phone, data));
+        }
+
+        assertEquals(Map.of("country", 1, "email", 1, "phone", 1), data.reads);
+    }
+
+    @Test
+    void equalReferencesShareASlot() {
+        ReferenceTable table = ReferenceTable.of(List.of(
+                new RequiredWithRule("billing.country"), new RequiredIfRule(" billing.country ,KE"),
+                new SameOrEqualRule("items.*.sku"), new MinRule(1)));
+
+        assertEquals(1, table.size());
+        assertEquals(0, table.slotOf(FieldReference.of("billing.country")));
+        assertEquals(-1, table.slotOf(FieldReference.of("items.*.sku")));
+    }
+
+    @Test
+    void schemaWithoutCrossFieldRulesHasNoSlots() {
+        assertSame(ReferenceTable.EMPTY, ReferenceTable.of(List.of(new RequiredRule(), new MinRule(1), new PhoneNoRule("KE"))));
+        assertEquals(1, ReferenceTable.of(List.of(new PhoneNoRule("countryCode"))).size());
+    }
+
+    @Test
+    void fieldsWithoutASlotAreReadEachTime() {
+        CountingMap data = new CountingMap();
+        data.put("country", "KE");
+        PresenceIndex index = new PresenceIndex(ReferenceTable.EMPTY);
+
+        assertEquals("KE", index.getText(FieldReference.of("country"), data));
+        assertEquals("KE", index.getText(FieldReference.of("country"), data));
+        assertEquals(2, data.reads.get("country"));
+    }
+
+    @Test
+    void schemaSharesPresenceAcrossConditionalRules() {
+        Map<String, String> rules = new LinkedHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            rules.put("field" + i, "requiredWith:country|requiredWithout:email|requiredIf:country,KE");
+        }
+        CompiledSchema schema = ValidatorBuilder.compile(rules);
+        CountingMap data = new CountingMap();
+        data.put("country", "ke");
+        data.put("field3", "x");
+
+        assertEquals(27, schema.validate(data).size());
+        assertEquals(1, data.reads.get("country"));
+        assertEquals(1, data.reads.get("email"));
+    }
+
+    /**
+     * Counts the reads of each key.
+     */
+    private static final class CountingMap extends HashMap<String, Object> {
+        private final Map<Object, Integer> reads = new HashMap<>();
+
+        @Override
+        public Object get(Object key) {
+            reads.merge(key, 1, Integer::sum);
+            return super.get(key);
+        }
+    }
+}
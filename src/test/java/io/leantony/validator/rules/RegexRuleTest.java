@@ -53,6 +53,45 @@ class RegexRuleTest {
         assertFalse(rule.validate("testField", slowInput, Collections.emptyMap()));
     }
 
+    @Test
+    void regexTimeout_ShouldAbortOnTheCallingThread() {
+        RegexRule rule = new RegexRule("(a+)+$", 20, 1024);
+        String slowInput = "a".repeat(40) + "!";
+
+        long start = System.nanoTime();
+        assertFalse(rule.validate("testField", slowInput, Collections.emptyMap()));
+        assertTrue(System.nanoTime() - start < 2_000_000_000L, "The match should have been abandoned near its deadline.");
+    }
+
+    @Test
+    void customMaxInputLength_ShouldBeApplied() {
+        RegexRule rule = new RegexRule(".*", 100, 5);
+        assertTrue(rule.validate("testField", "abcde", Collections.emptyMap()));
+        assertFalse(rule.validate("testField", "abcdef", Collections.emptyMap()));
+    }
+
+    @Test
+    void invalidLimits_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new RegexRule(".*", 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new RegexRule(".*", -2, 5));
+        assertThrows(IllegalArgumentException.class, () -> new RegexRule(".*", 100, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RegexRule(".*", 100, -5));
+        assertTrue(new RegexRule(".*", -1, -1).validate("testField", "abc", Collections.emptyMap()));
+    }
+
+    @Test
+    void patternsUsingSubSequences_ShouldStillMatch() {
+        RegexRule rule = new RegexRule("^(\\w+)-\\1$");
+        assertTrue(rule.validate("code", "abc-abc", Collections.emptyMap()));
+        assertFalse(rule.validate("code", "abc-abd", Collections.emptyMap()));
+    }
+
+    @Test
+    void invalidDefaults_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> RegexRule.setDefaultTimeoutMillis(0));
+        assertThrows(IllegalArgumentException.class, () -> RegexRule.setDefaultMaxInputLength(-1));
+    }
+
     @Test
     void getErrorMessage_ShouldReturnExpectedMessage() {
         RegexRule rule = new RegexRule(".*");